@@ -0,0 +1,311 @@
+package com.algovault.ds.arrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: OffHeapArray
+ * ----------------------------------------------------------
+ * 📌 Description : Dynamic int array stored off the Java heap in a
+ *                  MemorySegment (Foreign Function & Memory API)
+ * 📦 Features    : Add, Insert, InsertMultiple, Delete, Get, Set, Search,
+ *                  Sort, Reverse, Max, Min, Close
+ * 🛠️  Purpose     : Multi-GB arrays that the GC never scans or copies and
+ *                  that can hold more than 2^31 elements (long indices).
+ *                  Every buffer has its own Arena: growing allocates the new
+ *                  buffer, copies with MemorySegment.copy and closes the old
+ *                  arena at once, so memory is handed back immediately and
+ *                  close() releases the rest deterministically.
+ *                  Shifts for insert/delete are one MemorySegment.copy.
+ *                  sort is an LSD radix sort with an off-heap scratch buffer.
+ *                  Lives in src/main/ffm, built by the ffm-preview profile
+ *                  on Java 21 (run with --enable-preview there) and by
+ *                  ffm-final on Java 22+, where FFM is final.
+ *                  Off-heap buffers count against -XX:MaxDirectMemorySize,
+ *                  which defaults to the maximum heap size.
+ * 🧠 Complexity  : O(1) amortized append, O(n) insert/delete/search,
+ *                  O(n) sort
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class OffHeapArray implements AutoCloseable {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    // buffers start on a cache line
+    private static final long ALIGNMENT = 64;
+    // sort digit width: 3 passes of 11 bits, 2048 counters stay in L1
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private Arena arena;
+    private MemorySegment segment;
+    private long capacity;
+    private long size;
+
+    // Constructor: initialize with capacity
+    public OffHeapArray(long capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(capacity * INT.byteSize(), ALIGNMENT);
+        this.capacity = capacity;
+        this.size = 0;
+    }
+
+    // Resize: new buffer in a new arena, old arena freed right away
+    private void resize(long newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment = newArena.allocate(newCapacity * INT.byteSize(), ALIGNMENT);
+        MemorySegment.copy(segment, 0, newSegment, 0, size * INT.byteSize());
+        arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    // shift arr[from, size) by distance slots (negative = left)
+    private void shift(long from, long distance) {
+        MemorySegment.copy(segment, from * INT.byteSize(), segment, (from + distance) * INT.byteSize(),
+                (size - from) * INT.byteSize());
+    }
+
+    // Add element at the end (like append)
+    public void add(int data) {
+        if(size == capacity) {
+            resize(capacity * 2);
+        }
+        segment.setAtIndex(INT, size++, data);
+    }
+
+    // Insert at position
+    public void insert(long pos, int data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        if(size == capacity) {
+            resize(capacity * 2);
+        }
+        shift(pos, 1);
+        segment.setAtIndex(INT, pos, data);
+        size++;
+    }
+
+    // Insert multiple element at position
+    public void insertMultiple(long pos, int[] data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        long needed = size + data.length;
+        if(needed > capacity) {
+            resize(Math.max(capacity * 2, needed));
+        }
+        shift(pos, data.length);
+        MemorySegment.copy(data, 0, segment, INT, pos * INT.byteSize(), data.length);
+        size = needed;
+    }
+
+    // Helper: shrink if too empty
+    private void shrinkIfNeeded() {
+        if(size>0 && size == capacity/4) {
+            resize(capacity/2);
+        }
+    }
+
+    // delete from end
+    public void deleteEnd() {
+        if(size==0) {
+            throw new IllegalStateException("Array is empty.");
+        }
+        size--;
+        shrinkIfNeeded();
+    }
+
+    // delete from any position
+    public void delete(long pos) {
+        if(pos<0 || pos>=size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        shift(pos + 1, -1);
+        size--;
+        shrinkIfNeeded();
+    }
+
+    // search for element - linear search, index or -1
+    public long search(int data) {
+        for(long i=0; i<size; i++) {
+            if(segment.getAtIndex(INT, i) == data) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // get element at position
+    public int get(long pos) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        return segment.getAtIndex(INT, pos);
+    }
+
+    // set/update element at position
+    public void set(long pos, int data) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        segment.setAtIndex(INT, pos, data);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    // LSD radix sort, 11 bits per pass, scratch buffer released when done
+    public void sort() {
+        if(size < 2) {
+            return;
+        }
+        try (Arena scratchArena = Arena.ofConfined()) {
+            MemorySegment src = segment;
+            MemorySegment dst = scratchArena.allocate(size * INT.byteSize(), ALIGNMENT);
+            long[] count = new long[RADIX + 1];
+            for(int shift=0; shift<32; shift+=RADIX_BITS) {
+                Arrays.fill(count, 0);
+                for(long i=0; i<size; i++) {
+                    count[digit(src.getAtIndex(INT, i), shift) + 1]++;
+                }
+                // every key has the same digit, this pass would not move anything
+                if(count[digit(src.getAtIndex(INT, 0), shift) + 1] == size) {
+                    continue;
+                }
+                for(int d=0; d<RADIX; d++) {
+                    count[d + 1] += count[d];
+                }
+                for(long i=0; i<size; i++) {
+                    int v = src.getAtIndex(INT, i);
+                    dst.setAtIndex(INT, count[digit(v, shift)]++, v);
+                }
+                MemorySegment temp = src;
+                src = dst;
+                dst = temp;
+            }
+            if(src != segment) {
+                MemorySegment.copy(src, 0, segment, 0, size * INT.byteSize());
+            }
+        }
+    }
+
+    // digit of v at shift, the sign bit flipped so negatives sort first
+    private static int digit(int v, int shift) {
+        return ((v ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+    }
+
+    // reverse the array
+    public void reverse() {
+        for(long i=0, j=size-1; i<j; i++, j--) {
+            int temp = segment.getAtIndex(INT, i);
+            segment.setAtIndex(INT, i, segment.getAtIndex(INT, j));
+            segment.setAtIndex(INT, j, temp);
+        }
+    }
+
+    // find max element
+    public int max() {
+        if(size == 0) {
+            throw new IllegalStateException("Array is empty");
+        }
+        int max = segment.getAtIndex(INT, 0);
+        for(long i=1; i<size; i++) {
+            max = Math.max(max, segment.getAtIndex(INT, i));
+        }
+        return max;
+    }
+
+    // find min element
+    public int min() {
+        if(size == 0) {
+            throw new IllegalStateException("Array is empty");
+        }
+        int min = segment.getAtIndex(INT, 0);
+        for(long i=1; i<size; i++) {
+            min = Math.min(min, segment.getAtIndex(INT, i));
+        }
+        return min;
+    }
+
+    // copy a range onto the heap
+    public int[] copy(long from, int length) {
+        if(from < 0 || length < 0 || from + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range.");
+        }
+        int[] out = new int[length];
+        MemorySegment.copy(segment, INT, from * INT.byteSize(), out, 0, length);
+        return out;
+    }
+
+    // print current array elements
+    public void traverse() {
+        System.out.print("Array elements: ");
+        for(long i=0; i<size; i++) {
+            System.out.print(segment.getAtIndex(INT, i) + " ");
+        }
+    }
+
+    // frees the off-heap memory now; the array can not be used afterwards
+    @Override
+    public void close() {
+        if(arena.scope().isAlive()) {
+            arena.close();
+        }
+        size = 0;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+        // run with --enable-preview on Java 21
+
+        try (OffHeapArray arr = new OffHeapArray(4)) {
+            arr.add(10);
+            arr.add(20);
+            arr.add(30);
+            arr.add(40);
+            arr.add(50);
+            arr.traverse();
+
+            System.out.println("\nInsert at Position (2, 15): ");
+            arr.insert(2, 15);
+            arr.traverse();
+
+            System.out.println("\nInsert Multiple at Position (3, {17, 18}): ");
+            arr.insertMultiple(3, new int[] { 17, 18 });
+            arr.traverse();
+
+            System.out.println("\nDelete from Position 0: ");
+            arr.delete(0);
+            arr.traverse();
+
+            System.out.println("\nReverse the Array: ");
+            arr.reverse();
+            arr.traverse();
+
+            System.out.println("\nSort the Array: ");
+            arr.sort();
+            arr.traverse();
+            System.out.println("\nMax Element: " + arr.max() + ", Min Element: " + arr.min());
+        }
+
+        // 100M ints off the heap: see OffHeapArrayBench
+    }
+}
+/************************************************************
+ * 🔚 End of OffHeapArray.java
+ * 📣 Built for mastering off-heap memory stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
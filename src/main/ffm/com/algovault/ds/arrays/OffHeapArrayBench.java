@@ -0,0 +1,44 @@
+package com.algovault.ds.arrays;
+
+/************************************************************
+ * 🔰 CLASS: OffHeapArrayBench
+ * ----------------------------------------------------------
+ * 📌 Description : Append and sort timing run for OffHeapArray
+ * 🛠️  Purpose     : Fills an OffHeapArray with random ints the GC never
+ *                  sees, then radix sorts it.
+ *                  Kept out of OffHeapArray.main so the demo stays small.
+ *                  Args: [elements], default 100M (400 MB, plus the old
+ *                  buffer while growing and the sort scratch buffer - run
+ *                  with -XX:MaxDirectMemorySize=2g, and --enable-preview
+ *                  on Java 21).
+ * 🧠 Complexity   : O(n) append, O(n) sort
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class OffHeapArrayBench {
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        java.util.Random random = new java.util.Random(42);
+        try (OffHeapArray big = new OffHeapArray(1 << 20)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                big.add(random.nextInt());
+            }
+            System.out.printf("Appended %d ints in %d ms (capacity %d)%n", big.size(),
+                    (System.nanoTime() - start) / 1_000_000, big.capacity());
+            start = System.nanoTime();
+            big.sort();
+            System.out.printf("Sorted in %d ms, min %d, max %d%n", (System.nanoTime() - start) / 1_000_000,
+                    big.min(), big.max());
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of OffHeapArrayBench.java
+ * 📣 Built for mastering off-heap memory stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
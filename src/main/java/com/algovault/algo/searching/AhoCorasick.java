@@ -0,0 +1,302 @@
+package com.algovault.algo.searching;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: AhoCorasick
+ * ----------------------------------------------------------
+ * 📌 Description : Multi-pattern search (Aho-Corasick automaton) over
+ *                  raw bytes
+ * 🛠️  Purpose     : Finds every occurrence of thousands of patterns in one
+ *                  pass over the input, instead of one contains() or regex
+ *                  per pattern.
+ *                  Table:
+ *                  bytes that occur in no pattern all behave the same, so
+ *                  the alphabet is reduced to byte classes first. The
+ *                  automaton is then a complete DFA in one flat int[]:
+ *                  next = delta[state * classes + classOf[b]]. Failure links
+ *                  are folded into the table while it is built (BFS), so the
+ *                  scan loop is one load per byte and never follows a link.
+ *                  Matches:
+ *                  every state knows the pattern ending there (or -1) and
+ *                  the nearest state on its failure chain that ends a
+ *                  pattern. Reporting walks that chain and calls the
+ *                  listener with (pattern, end offset) - nothing allocated.
+ *                  Streaming:
+ *                  a Matcher keeps the state and offset between chunks, so a
+ *                  file can be fed in buffers and matches across chunk
+ *                  borders are still found.
+ * 🧠 Complexity   : build O(total pattern length * classes),
+ *                  scan O(text length + matches)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class AhoCorasick {
+
+    // end is the offset one past the last byte of the match in the whole stream
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int pattern, long end);
+    }
+
+    private final int[] classOf = new int[256];
+    private final int classes;
+    // delta[state * classes + class] = next state
+    private int[] delta;
+    // pattern ending in this state, -1 if none
+    private int[] pattern;
+    // nearest state on the failure chain that ends a pattern, -1 if none
+    private int[] outputLink;
+    private final int[] patternLength;
+    private int states;
+
+    public AhoCorasick(String... patterns) {
+        this(toBytes(patterns));
+    }
+
+    public AhoCorasick(byte[]... patterns) {
+        if(patterns.length == 0) {
+            throw new IllegalArgumentException("At least one pattern is required.");
+        }
+        patternLength = new int[patterns.length];
+
+        // class 0 is every byte that occurs in no pattern
+        int next = 1;
+        for(byte[] p : patterns) {
+            if(p.length == 0) {
+                throw new IllegalArgumentException("Patterns must not be empty.");
+            }
+            for(byte b : p) {
+                if(classOf[b & 0xFF] == 0) {
+                    classOf[b & 0xFF] = next++;
+                }
+            }
+        }
+        classes = next;
+
+        buildTrie(patterns);
+        buildFailureLinks();
+    }
+
+    private static byte[][] toBytes(String[] patterns) {
+        byte[][] bytes = new byte[patterns.length][];
+        for(int i=0; i<patterns.length; i++) {
+            bytes[i] = patterns[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private void buildTrie(byte[][] patterns) {
+        int capacity = 16;
+        delta = new int[capacity * classes];
+        pattern = new int[capacity];
+        Arrays.fill(delta, -1);
+        Arrays.fill(pattern, -1);
+        states = 1;
+        for(int id=0; id<patterns.length; id++) {
+            int state = 0;
+            for(byte b : patterns[id]) {
+                int slot = state * classes + classOf[b & 0xFF];
+                if(delta[slot] == -1) {
+                    if(states == capacity) {
+                        capacity *= 2;
+                        int oldSize = delta.length;
+                        delta = Arrays.copyOf(delta, capacity * classes);
+                        Arrays.fill(delta, oldSize, delta.length, -1);
+                        pattern = Arrays.copyOf(pattern, capacity);
+                        Arrays.fill(pattern, states, capacity, -1);
+                    }
+                    delta[slot] = states++;
+                }
+                state = delta[slot];
+            }
+            // a duplicate pattern keeps the first id
+            if(pattern[state] == -1) {
+                pattern[state] = id;
+            }
+            patternLength[id] = patterns[id].length;
+        }
+        delta = Arrays.copyOf(delta, states * classes);
+        pattern = Arrays.copyOf(pattern, states);
+    }
+
+    // BFS over the trie; a missing edge becomes the edge of the failure state
+    private void buildFailureLinks() {
+        int[] fail = new int[states];
+        outputLink = new int[states];
+        outputLink[0] = -1;
+        int[] queue = new int[states];
+        int head = 0, tail = 0;
+        for(int c=0; c<classes; c++) {
+            int child = delta[c];
+            if(child == -1) {
+                delta[c] = 0;
+            } else {
+                fail[child] = 0;
+                outputLink[child] = -1;
+                queue[tail++] = child;
+            }
+        }
+        while(head < tail) {
+            int state = queue[head++];
+            for(int c=0; c<classes; c++) {
+                int slot = state * classes + c;
+                int child = delta[slot];
+                int fallback = delta[fail[state] * classes + c];
+                if(child == -1) {
+                    delta[slot] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    outputLink[child] = pattern[fallback] != -1 ? fallback : outputLink[fallback];
+                    queue[tail++] = child;
+                }
+            }
+        }
+    }
+
+    public int stateCount() {
+        return states;
+    }
+
+    public int patternLength(int pattern) {
+        return patternLength[pattern];
+    }
+
+    // bytes used by the transition table and per-state arrays
+    public long memoryBytes() {
+        return (long) delta.length * Integer.BYTES + 2L * states * Integer.BYTES;
+    }
+
+    // report every match in text
+    public void search(byte[] text, MatchListener listener) {
+        newMatcher().feed(text, 0, text.length, listener);
+    }
+
+    // report every match in the remaining bytes of buffer, consuming them
+    public void search(ByteBuffer buffer, MatchListener listener) {
+        newMatcher().feed(buffer, listener);
+    }
+
+    // true if any pattern occurs in text
+    public boolean containsAny(byte[] text) {
+        int state = 0;
+        for(byte b : text) {
+            state = delta[state * classes + classOf[b & 0xFF]];
+            if(pattern[state] != -1 || outputLink[state] != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Matcher newMatcher() {
+        return new Matcher();
+    }
+
+    // scan state carried across chunks of one stream
+    public final class Matcher {
+        private int state;
+        private long offset;
+
+        public void feed(byte[] chunk, int from, int to, MatchListener listener) {
+            int s = state;
+            for(int i=from; i<to; i++) {
+                s = delta[s * classes + classOf[chunk[i] & 0xFF]];
+                if(pattern[s] != -1 || outputLink[s] != -1) {
+                    report(s, offset + (i - from) + 1, listener);
+                }
+            }
+            state = s;
+            offset += to - from;
+        }
+
+        public void feed(ByteBuffer chunk, MatchListener listener) {
+            if(chunk.hasArray()) {
+                int from = chunk.arrayOffset() + chunk.position();
+                int to = chunk.arrayOffset() + chunk.limit();
+                feed(chunk.array(), from, to, listener);
+                chunk.position(chunk.limit());
+                return;
+            }
+            int s = state;
+            long end = offset;
+            while(chunk.hasRemaining()) {
+                s = delta[s * classes + classOf[chunk.get() & 0xFF]];
+                end++;
+                if(pattern[s] != -1 || outputLink[s] != -1) {
+                    report(s, end, listener);
+                }
+            }
+            state = s;
+            offset = end;
+        }
+
+        // bytes consumed so far
+        public long offset() {
+            return offset;
+        }
+
+        public void reset() {
+            state = 0;
+            offset = 0;
+        }
+
+        private void report(int s, long end, MatchListener listener) {
+            if(pattern[s] == -1) {
+                s = outputLink[s];
+            }
+            while(s != -1) {
+                listener.onMatch(pattern[s], end);
+                s = outputLink[s];
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        String[] words = { "he", "she", "his", "hers" };
+        AhoCorasick small = new AhoCorasick(words);
+        byte[] text = "ushers and his sheep".getBytes(StandardCharsets.UTF_8);
+        small.search(text, (pattern, end) ->
+                System.out.println("'" + words[pattern] + "' at " + (end - small.patternLength(pattern))));
+
+        // 5000 watched tokens over 64 MB of log lines, fed in 64 KB chunks
+        java.util.Random random = new java.util.Random(42);
+        String[] tokens = new String[5000];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = "tok" + Integer.toString(random.nextInt(1 << 30), 36);
+        }
+        AhoCorasick watcher = new AhoCorasick(tokens);
+        StringBuilder log = new StringBuilder();
+        while (log.length() < 1 << 20) {
+            log.append("2026-10-17 INFO request ").append(random.nextInt(1_000_000))
+               .append(random.nextInt(50) == 0 ? " " + tokens[random.nextInt(tokens.length)] : " ok")
+               .append('\n');
+        }
+        byte[] page = log.toString().getBytes(StandardCharsets.UTF_8);
+        long[] hits = new long[1];
+        MatchListener counter = (pattern, end) -> hits[0]++;
+        for (int round = 0; round < 3; round++) {
+            hits[0] = 0;
+            Matcher matcher = watcher.newMatcher();
+            long start = System.nanoTime();
+            for (int rep = 0; rep < 64; rep++) {
+                for (int from = 0; from < page.length; from += 1 << 16) {
+                    matcher.feed(page, from, Math.min(page.length, from + (1 << 16)), counter);
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d states, %d KB table: %d matches, %.0f MB/s%n", watcher.stateCount(),
+                    watcher.memoryBytes() / 1024, hits[0], matcher.offset() / seconds / (1 << 20));
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of AhoCorasick.java
+ * 📣 Built for mastering multi-pattern search stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
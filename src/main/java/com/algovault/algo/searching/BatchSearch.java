@@ -0,0 +1,171 @@
+package com.algovault.algo.searching;
+
+import com.algovault.algo.sorting.CoSort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/************************************************************
+ * 🔰 CLASS: BatchSearch
+ * ----------------------------------------------------------
+ * 📌 Description : Looks up a whole batch of keys against one sorted table
+ * 🛠️  Purpose     : One binarySearch call per key leaves the CPU waiting
+ *                  on a single cache miss at a time. Here:
+ *                  1. the queries are sorted (CoSort.argsort), so the table
+ *                     is walked from left to right and neighbouring queries
+ *                     reuse the cache lines of the ones before them
+ *                  2. every answer is >= the answer before it, so each group
+ *                     only searches the table to the right of it
+ *                  3. LANES searches run in lockstep. Their loads do not
+ *                     depend on each other, so LANES misses are in flight
+ *                     at once instead of one
+ *                  4. large batches are split across a ForkJoinPool
+ *                  Results come back in the original query order.
+ * 🧠 Complexity   : O(m + m log n) for m queries, O(m) extra space
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class BatchSearch {
+    // searches interleaved per group
+    public static final int LANES = 8;
+    // batches smaller than this are answered on the calling thread
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final CoSort coSort = new CoSort();
+
+    // for every query, the index of a matching table entry or -1 (like binarySearch)
+    public int[] search(int[] table, int[] queries) {
+        return search(table, queries, ForkJoinPool.commonPool());
+    }
+
+    public int[] search(int[] table, int[] queries, ForkJoinPool pool) {
+        int[] positions = lowerBounds(table, queries, pool);
+        for(int i=0; i<queries.length; i++) {
+            int pos = positions[i];
+            positions[i] = pos < table.length && table[pos] == queries[i] ? pos : -1;
+        }
+        return positions;
+    }
+
+    // for every query, the first table index whose value is >= the query
+    public int[] lowerBounds(int[] table, int[] queries) {
+        return lowerBounds(table, queries, ForkJoinPool.commonPool());
+    }
+
+    public int[] lowerBounds(int[] table, int[] queries, ForkJoinPool pool) {
+        int m = queries.length;
+        int[] positions = new int[m];
+        if(m == 0) {
+            return positions;
+        }
+        int[] perm = coSort.argsort(queries);
+        int[] sorted = new int[m];
+        for(int i=0; i<m; i++) {
+            sorted[i] = queries[perm[i]];
+        }
+        BatchTask task = new BatchTask(table, sorted, perm, positions, 0, m);
+        if(m < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return positions;
+    }
+
+    // answers sorted[from, to), scattering each result to positions[perm[i]]
+    private static void searchRun(int[] table, int[] sorted, int[] perm, int[] positions, int from, int to) {
+        int n = table.length;
+        int[] bases = new int[LANES];
+        int[] keys = new int[LANES];
+        // no answer in this run is left of the previous group's last answer
+        int start = 0;
+        for(int i=from; i<to; i+=LANES) {
+            int group = Math.min(LANES, to - i);
+            for(int j=0; j<group; j++) {
+                bases[j] = start;
+                keys[j] = sorted[i + j];
+            }
+            // branchless lower bound, all lanes share the same window length
+            int len = n - start;
+            while(len > 1) {
+                int half = len >>> 1;
+                for(int j=0; j<group; j++) {
+                    int base = bases[j];
+                    bases[j] = table[base + half - 1] < keys[j] ? base + half : base;
+                }
+                len -= half;
+            }
+            for(int j=0; j<group; j++) {
+                int base = bases[j];
+                int pos = len == 0 ? base : base + (table[base] < keys[j] ? 1 : 0);
+                positions[perm[i + j]] = pos;
+                start = pos;
+            }
+        }
+    }
+
+    // splits the sorted queries in halves until a run is below the threshold
+    private static final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] table, sorted, perm, positions;
+        private final int from, to;
+
+        BatchTask(int[] table, int[] sorted, int[] perm, int[] positions, int from, int to) {
+            this.table = table;
+            this.sorted = sorted;
+            this.perm = perm;
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= PARALLEL_THRESHOLD || getPool() == null) {
+                searchRun(table, sorted, perm, positions, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(table, sorted, perm, positions, from, mid),
+                      new BatchTask(table, sorted, perm, positions, mid, to));
+        }
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        BatchSearch batchSearch = new BatchSearch();
+        int[] small = { 2, 4, 6, 8, 10, 12, 14 };
+        System.out.println(java.util.Arrays.toString(batchSearch.search(small, new int[] { 12, 3, 2, 20, 8 })));
+
+        java.util.Random random = new java.util.Random(42);
+        int[] table = random.ints(1 << 24, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] queries = random.ints(5_000_000, 0, Integer.MAX_VALUE).toArray();
+        BinarySearch binarySearch = new BinarySearch();
+        ForkJoinPool single = new ForkJoinPool(1);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long check = 0;
+            for (int q : queries) {
+                check += binarySearch.binarySearch(table, q);
+            }
+            long oneByOne = System.nanoTime() - start;
+            start = System.nanoTime();
+            check += batchSearch.search(table, queries, single)[0];
+            long batched = System.nanoTime() - start;
+            start = System.nanoTime();
+            check += batchSearch.search(table, queries)[0];
+            long parallel = System.nanoTime() - start;
+            System.out.printf("M lookups/s  binarySearch %.1f | batch %.1f | batch on %d cores %.1f  (%d)%n",
+                    queries.length * 1e3 / oneByOne, queries.length * 1e3 / batched,
+                    ForkJoinPool.commonPool().getParallelism(), queries.length * 1e3 / parallel, check);
+        }
+        single.shutdown();
+    }
+}
+/************************************************************
+ * 🔚 End of BatchSearch.java
+ * 📣 Built for mastering batched search operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -6,7 +6,10 @@ package com.algovault.algo.searching;
  * 🛠️  Purpose     : This class exists to quickly locate an element
  *                  in a sorted array by repeatedly halving the search
  *                  range instead of scanning every element.
- * 🧠 Complexity   : O(log n)
+ *                  Bounds and range counts answer range queries without
+ *                  scanning from a hit; exponential search is for keys near
+ *                  a known index, interpolation search for uniform keys.
+ * 🧠 Complexity   : O(log n), exponential O(log d), interpolation O(log log n) expected
  *
  * 🧑‍💻 Crafted With Logic & Love by Masum | 05-Aug-2025
  ************************************************************/
@@ -49,6 +52,121 @@ public class BinarySearch {
         return -1;
     }
 
+    // first index whose value is >= data, arr.length if none
+    public int lowerBound(int arr[], int data) {
+        return lowerBound(arr, data, 0, arr.length);
+    }
+
+    // lower bound inside arr[from, to)
+    public int lowerBound(int arr[], int data, int from, int to) {
+        int low=from, high=to;
+        while(low<high) {
+            int mid = low+(high-low)/2;
+            if(arr[mid] < data) {
+                low = mid+1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // first index whose value is > data, arr.length if none
+    public int upperBound(int arr[], int data) {
+        return upperBound(arr, data, 0, arr.length);
+    }
+
+    public int upperBound(int arr[], int data, int from, int to) {
+        int low=from, high=to;
+        while(low<high) {
+            int mid = low+(high-low)/2;
+            if(arr[mid] <= data) {
+                low = mid+1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // {first, end} of the run equal to data, first == end when data is absent
+    public int[] equalRange(int arr[], int data) {
+        int first = lowerBound(arr, data);
+        return new int[] { first, upperBound(arr, data, first, arr.length) };
+    }
+
+    // number of values v with low <= v <= high
+    public int countInRange(int arr[], int low, int high) {
+        if(low > high) {
+            return 0;
+        }
+        int first = lowerBound(arr, low);
+        return upperBound(arr, high, first, arr.length) - first;
+    }
+
+    // galloping search outward from hint, O(log d) where d is the distance to the match.
+    // returns the first index of data or -1
+    public int exponentialSearch(int arr[], int data, int hint) {
+        int n = arr.length;
+        if(n == 0) {
+            return -1;
+        }
+        hint = Math.max(0, Math.min(hint, n-1));
+        int low, high;
+        if(arr[hint] < data) {
+            // answer is right of hint: double the step until we pass data
+            // (long, hint+step can pass 2^31 on arrays longer than 2^30)
+            long step = 1;
+            low = hint+1;
+            while(hint+step < n && arr[(int) (hint+step)] < data) {
+                low = (int) (hint+step+1);
+                step <<= 1;
+            }
+            high = (int) Math.min(n, hint+step+1);
+        } else {
+            // answer is at or left of hint
+            long step = 1;
+            high = hint+1;
+            while(hint-step >= 0 && arr[(int) (hint-step)] >= data) {
+                high = (int) (hint-step+1);
+                step <<= 1;
+            }
+            low = (int) Math.max(0, hint-step);
+        }
+        int pos = lowerBound(arr, data, low, high);
+        return pos < n && arr[pos] == data ? pos : -1;
+    }
+
+    // interpolation search for uniformly distributed keys, O(log log n) expected.
+    // falls back to binary search once a probe fails to halve the range
+    public int interpolationSearch(int arr[], int data) {
+        int low=0, high = arr.length-1;
+        int badProbes = 0;
+        while(low<=high && data>=arr[low] && data<=arr[high]) {
+            if(arr[high] == arr[low]) {
+                return arr[low] == data ? low : -1;
+            }
+            if(badProbes >= 2) {
+                int pos = lowerBound(arr, data, low, high+1);
+                return pos <= high && arr[pos] == data ? pos : -1;
+            }
+            int size = high-low;
+            int pos = low + (int) (((long) data-arr[low]) * (high-low) / ((long) arr[high]-arr[low]));
+            if(arr[pos] < data) {
+                low = pos+1;
+            } else if(arr[pos] > data) {
+                high = pos-1;
+            } else {
+                // step back to the first occurrence, as the other searches return
+                return lowerBound(arr, data, low, pos+1);
+            }
+            if(high-low > size/2) {
+                badProbes++;
+            }
+        }
+        return -1;
+    }
+
     public static void main(String[] args) {
         // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
 
@@ -63,6 +181,14 @@ public class BinarySearch {
         int recursiveResult = bs.recursiveBinarySearch(arr, 12);
         System.out.println("Data is"+(recursiveResult!=-1?" Found at index: "+recursiveResult:" Not found."));
 
+        int timestamps[] = {100, 105, 105, 105, 110, 120, 130, 130, 150};
+        int range[] = bs.equalRange(timestamps, 105);
+        System.out.println("105 occupies ["+range[0]+", "+range[1]+")");
+        System.out.println("lowerBound(106) = "+bs.lowerBound(timestamps, 106)+", upperBound(130) = "+bs.upperBound(timestamps, 130));
+        System.out.println("Timestamps in [104, 130]: "+bs.countInRange(timestamps, 104, 130));
+        System.out.println("Exponential search for 130 near index 5: "+bs.exponentialSearch(timestamps, 130, 5));
+        System.out.println("Interpolation search for 120: "+bs.interpolationSearch(timestamps, 120));
+
     }
 
 }
@@ -0,0 +1,88 @@
+package com.algovault.algo.searching;
+
+/************************************************************
+ * 🔰 CLASS: BranchlessSearch
+ * ----------------------------------------------------------
+ * 📌 Description : Branchless lower/upper bound on a plain sorted int[]
+ * 🛠️  Purpose     : The textbook loop in BinarySearch branches on every
+ *                  probe, and half of those branches are mispredicted.
+ *                  Here the loop always runs ceil(log2 n) times and only
+ *                  picks the next base, which the JIT turns into a
+ *                  conditional move.
+ *                  While the range is larger than L2, both possible next
+ *                  probes are loaded ahead of the compare, so the next
+ *                  cache miss overlaps the current one (Java has no
+ *                  prefetch instruction, a plain read does the job).
+ *                  For large tables prefer EytzingerIndex, whose next
+ *                  probes sit in one cache line.
+ * 🧠 Complexity   : O(log n)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class BranchlessSearch {
+    // below this range size the probes are cache resident and prefetching only costs loads
+    private static final int PREFETCH_MIN = 1 << 14;
+    // written only when a prefetched value happens to equal it, keeps the loads alive
+    private static final int SINK_MARKER = 0x5EA2C4;
+    static int prefetchSink;
+
+    // first index whose value is >= key, arr.length if none
+    public static int lowerBound(int[] arr, int key) {
+        return bound(arr, key, true);
+    }
+
+    // first index whose value is > key, arr.length if none
+    public static int upperBound(int[] arr, int key) {
+        return bound(arr, key, false);
+    }
+
+    public static boolean contains(int[] arr, int key) {
+        int i = lowerBound(arr, key);
+        return i < arr.length && arr[i] == key;
+    }
+
+    // strict counts values < key, otherwise values <= key
+    private static int bound(int[] arr, int key, boolean strict) {
+        int len = arr.length;
+        if(len == 0) {
+            return 0;
+        }
+        int base = 0;
+        int touch = 0;
+        while(len > PREFETCH_MIN) {
+            int half = len >>> 1;
+            int quarter = (len - half) >>> 1;
+            touch += arr[base + quarter] + arr[base + half + quarter];
+            int probe = arr[base + half - 1];
+            base = (strict ? probe < key : probe <= key) ? base + half : base;
+            len -= half;
+        }
+        while(len > 1) {
+            int half = len >>> 1;
+            int probe = arr[base + half - 1];
+            base = (strict ? probe < key : probe <= key) ? base + half : base;
+            len -= half;
+        }
+        if(touch == SINK_MARKER) {
+            prefetchSink = touch;
+        }
+        return base + ((strict ? arr[base] < key : arr[base] <= key) ? 1 : 0);
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int[] arr = { 2, 4, 4, 4, 8, 10, 12 };
+        System.out.println("lowerBound(4) = " + lowerBound(arr, 4));
+        System.out.println("upperBound(4) = " + upperBound(arr, 4));
+        System.out.println("lowerBound(5) = " + lowerBound(arr, 5));
+        System.out.println("contains(10) = " + contains(arr, 10));
+        System.out.println("contains(11) = " + contains(arr, 11));
+    }
+}
+/************************************************************
+ * 🔚 End of BranchlessSearch.java
+ * 📣 Built for mastering branchless search operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,146 @@
+package com.algovault.algo.searching;
+
+/************************************************************
+ * 🔰 CLASS: EytzingerIndex
+ * ----------------------------------------------------------
+ * 📌 Description : Read-only search index over a sorted int[] stored in
+ *                  Eytzinger (BFS / heap) order
+ * 🛠️  Purpose     : In a sorted array the probes of a binary search are
+ *                  far apart, so every level below the cache costs a full
+ *                  memory round trip. In BFS order node k has its children
+ *                  at 2k and 2k+1, and the 16 nodes four levels below k sit
+ *                  together at 16k..16k+15 - one cache line. Loading that
+ *                  line while the current compare is still running keeps
+ *                  four misses in flight instead of one.
+ *                  The descent is branchless: k = 2k + (tree[k] < key).
+ *                  When it falls off the tree, the last left turn (lowest
+ *                  zero bit of k) is the answer node, and its sorted
+ *                  position is computed with the in-order rank formula
+ *                  below, so no position table is stored.
+ * 🧠 Complexity   : build O(n), lookup O(log n), memory n + 1 ints
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class EytzingerIndex {
+    // prefetch the node four levels down (16 = 2^4 nodes per cache line)
+    private static final int PREFETCH_SHIFT = 4;
+    // written only when a prefetched value happens to equal it, keeps the loads alive
+    private static final int SINK_MARKER = 0x5EA2C4;
+    static int prefetchSink;
+
+    // tree[1..n] in BFS order, tree[0] unused
+    private final int[] tree;
+    private final int n;
+    // depth of the last level and number of nodes on it
+    private final int lastDepth;
+    private final long lastLevelCount;
+
+    public EytzingerIndex(int[] sorted) {
+        for(int i=1; i<sorted.length; i++) {
+            if(sorted[i-1] > sorted[i]) {
+                throw new IllegalArgumentException("Array must be sorted.");
+            }
+        }
+        this.n = sorted.length;
+        this.tree = new int[n + 1];
+        this.lastDepth = n == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(n);
+        this.lastLevelCount = n - ((1L << lastDepth) - 1);
+        for(int k=1; k<=n; k++) {
+            tree[k] = sorted[rank(k)];
+        }
+    }
+
+    // position of node k in sorted order.
+    // p is its in-order position in the perfect tree with a full last level,
+    // minus the missing last-level leaves (every even position) before it
+    private int rank(int k) {
+        int depth = 31 - Integer.numberOfLeadingZeros(k);
+        long p = ((2L * (k - (1L << depth)) + 1) << (lastDepth - depth)) - 1;
+        long missing = Math.max(0, ((p + 1) >> 1) - lastLevelCount);
+        return (int) (p - missing);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // first sorted index whose value is >= key, size() if none
+    public int lowerBound(int key) {
+        int k = descend(key, true);
+        return k == 0 ? n : rank(k);
+    }
+
+    // first sorted index whose value is > key, size() if none
+    public int upperBound(int key) {
+        int k = descend(key, false);
+        return k == 0 ? n : rank(k);
+    }
+
+    public boolean contains(int key) {
+        int k = descend(key, true);
+        return k != 0 && tree[k] == key;
+    }
+
+    // BFS index of the first node >= key (or > key), 0 if none
+    // k is a long: 2k + 1 and k << PREFETCH_SHIFT leave the int range once n >= 2^30 and 2^27
+    private int descend(int key, boolean strict) {
+        long k = 1;
+        int touch = 0;
+        while(k <= n) {
+            if(k <= (n >>> PREFETCH_SHIFT)) {
+                touch += tree[(int) (k << PREFETCH_SHIFT)];
+            }
+            k = 2 * k + ((strict ? tree[(int) k] < key : tree[(int) k] <= key) ? 1 : 0);
+        }
+        if(touch == SINK_MARKER) {
+            prefetchSink = touch;
+        }
+        // undo the right turns taken after the last left turn
+        return (int) (k >>> (Long.numberOfTrailingZeros(~k) + 1));
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        EytzingerIndex small = new EytzingerIndex(new int[] { 2, 4, 4, 4, 8, 10, 12 });
+        System.out.println("lowerBound(4) = " + small.lowerBound(4));
+        System.out.println("upperBound(4) = " + small.upperBound(4));
+        System.out.println("contains(10) = " + small.contains(10) + ", contains(11) = " + small.contains(11));
+
+        // lookup latency against the plain layouts, far beyond the last-level cache.
+        // Lookups were also checked against Arrays.binarySearch on 2^27 + 5 keys,
+        // where the prefetch index k << 4 no longer fits in an int
+        java.util.Random random = new java.util.Random(42);
+        int[] table = random.ints(1 << 25, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] queries = random.ints(5_000_000, 0, Integer.MAX_VALUE).toArray();
+        EytzingerIndex index = new EytzingerIndex(table);
+        BinarySearch binarySearch = new BinarySearch();
+        for (int round = 0; round < 3; round++) {
+            long check = 0;
+            long start = System.nanoTime();
+            for (int q : queries) {
+                check += binarySearch.binarySearch(table, q);
+            }
+            long textbook = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int q : queries) {
+                check += BranchlessSearch.lowerBound(table, q);
+            }
+            long branchless = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int q : queries) {
+                check += index.lowerBound(q);
+            }
+            long eytzinger = System.nanoTime() - start;
+            System.out.printf("ns/lookup  binarySearch %.0f | branchless %.0f | eytzinger %.0f  (%d)%n",
+                    (double) textbook / queries.length, (double) branchless / queries.length,
+                    (double) eytzinger / queries.length, check);
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of EytzingerIndex.java
+ * 📣 Built for mastering cache-friendly search operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
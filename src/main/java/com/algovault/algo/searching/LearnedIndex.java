@@ -0,0 +1,288 @@
+package com.algovault.algo.searching;
+
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: LearnedIndex
+ * ----------------------------------------------------------
+ * 📌 Description : Piecewise linear learned index (PGM / RadixSpline
+ *                  style) over a read-only sorted int[] or long[]
+ * 🛠️  Purpose     : Replaces the log2(n) probes of a binary search with a
+ *                  model prediction plus a search over at most
+ *                  2 * epsilon + 2 slots.
+ *                  Build (one pass, shrinking cone):
+ *                  for lowerBound the target function is a staircase, so
+ *                  every distinct key k at first index p gives the point
+ *                  (k, p), and (previous key + 1, p) when there is a gap.
+ *                  A segment starts at a point and keeps the range of slopes
+ *                  that pass within epsilon of every point seen so far; when
+ *                  the range becomes empty a new segment starts. If the
+ *                  key point breaks the cone right after its gap point was
+ *                  taken, the new segment starts at the gap point, so the
+ *                  flat step between them is never extrapolated.
+ *                  Lookup:
+ *                  a radix table on the top bits of the key narrows down the
+ *                  segment, a short binary search picks it, the line predicts
+ *                  the position, and lowerBound runs in
+ *                  [prediction - epsilon, prediction + epsilon + 1].
+ * 🧠 Complexity   : build O(n), lookup O(log segments-per-bucket + log epsilon)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class LearnedIndex {
+    public static final int DEFAULT_EPSILON = 64;
+    private static final int MAX_RADIX_BITS = 20;
+
+    // exactly one of the two is set
+    private final int[] ints;
+    private final long[] longs;
+    private final int n;
+    private final int epsilon;
+
+    // segment i covers keys [segmentKeys[i], segmentKeys[i+1])
+    private long[] segmentKeys;
+    private double[] slopes;
+    private int[] intercepts;
+    private int segments;
+
+    // radix table: segments with bucket(start key) < b are radixTable[b]
+    private int[] radixTable;
+    private int shift;
+    private long minKey, maxKey;
+
+    public LearnedIndex(int[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    public LearnedIndex(int[] sorted, int epsilon) {
+        this(sorted, null, sorted.length, epsilon);
+    }
+
+    public LearnedIndex(long[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    public LearnedIndex(long[] sorted, int epsilon) {
+        this(null, sorted, sorted.length, epsilon);
+    }
+
+    private LearnedIndex(int[] ints, long[] longs, int n, int epsilon) {
+        if(epsilon < 1) {
+            throw new IllegalArgumentException("Epsilon must be at least 1.");
+        }
+        this.ints = ints;
+        this.longs = longs;
+        this.n = n;
+        this.epsilon = epsilon;
+        buildSegments();
+        buildRadixTable();
+    }
+
+    private long key(int i) {
+        return ints != null ? ints[i] : longs[i];
+    }
+
+    private void buildSegments() {
+        segmentKeys = new long[16];
+        slopes = new double[16];
+        intercepts = new int[16];
+        segments = 0;
+        if(n == 0) {
+            return;
+        }
+        minKey = key(0);
+        maxKey = key(n-1);
+        long startX = minKey;
+        int startY = 0;
+        double slopeLo = 0, slopeHi = Double.POSITIVE_INFINITY;
+        long previous = minKey;
+        for(int i=1; i<n; i++) {
+            long k = key(i);
+            if(k < previous) {
+                throw new IllegalArgumentException("Array must be sorted.");
+            }
+            if(k == previous) {
+                continue;
+            }
+            // (previous + 1, i) closes the gap of the staircase, (k, i) is the key itself
+            long gap = previous + 1;
+            for(int step=0; step<2; step++) {
+                long x = step == 0 ? gap : k;
+                if(step == 0 && x == k) {
+                    continue;
+                }
+                double dx = delta(x, startX);
+                double lo = (i - epsilon - startY) / dx;
+                double hi = (i + epsilon - startY) / dx;
+                if(Math.max(slopeLo, lo) > Math.min(slopeHi, hi)) {
+                    addSegment(startX, startY, slopeLo, slopeHi);
+                    slopeLo = 0;
+                    slopeHi = Double.POSITIVE_INFINITY;
+                    if(step == 1 && gap != k) {
+                        // start at the gap point, then (k, i) lies on the flat step of the new segment
+                        startX = gap;
+                        startY = i;
+                        slopeHi = epsilon / delta(k, gap);
+                    } else {
+                        startX = x;
+                        startY = i;
+                    }
+                } else {
+                    slopeLo = Math.max(slopeLo, lo);
+                    slopeHi = Math.min(slopeHi, hi);
+                }
+            }
+            previous = k;
+        }
+        addSegment(startX, startY, slopeLo, slopeHi);
+    }
+
+    // x - from as a double, exact in sign for keys more than 2^63 apart (x >= from)
+    private static double delta(long x, long from) {
+        long d = x - from;
+        return d >= 0 ? d : (double) (d >>> 1) * 2 + (d & 1);
+    }
+
+    private void addSegment(long x, int y, double slopeLo, double slopeHi) {
+        if(segments == segmentKeys.length) {
+            segmentKeys = Arrays.copyOf(segmentKeys, segments * 2);
+            slopes = Arrays.copyOf(slopes, segments * 2);
+            intercepts = Arrays.copyOf(intercepts, segments * 2);
+        }
+        segmentKeys[segments] = x;
+        slopes[segments] = slopeHi == Double.POSITIVE_INFINITY ? 0 : (slopeLo + slopeHi) / 2;
+        intercepts[segments] = y;
+        segments++;
+    }
+
+    private void buildRadixTable() {
+        int bits = Math.min(MAX_RADIX_BITS, 33 - Integer.numberOfLeadingZeros(Math.max(1, segments)));
+        long span = maxKey - minKey;
+        int spanBits = 64 - Long.numberOfLeadingZeros(span);
+        shift = Math.max(0, spanBits - bits);
+        radixTable = new int[(1 << bits) + 2];
+        int s = 0;
+        for(int b=0; b<radixTable.length; b++) {
+            while(s < segments && bucket(segmentKeys[s]) < b) {
+                s++;
+            }
+            radixTable[b] = s;
+        }
+    }
+
+    private int bucket(long key) {
+        return (int) ((key - minKey) >>> shift);
+    }
+
+    // first index whose key is >= key, size() if none.
+    // the final search never looks at more than 2 * epsilon + 2 slots
+    public int lowerBound(long key) {
+        if(n == 0 || key <= minKey) {
+            return 0;
+        }
+        if(key > maxKey) {
+            return n;
+        }
+        // last segment starting at or before key
+        int b = bucket(key);
+        int lo = Math.max(0, radixTable[b] - 1), hi = radixTable[b + 1] - 1;
+        while(lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if(segmentKeys[mid] <= key) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long predicted = intercepts[lo] + (long) (slopes[lo] * delta(key, segmentKeys[lo]));
+        // the answer for a key in segment lo is between its start and the next segment's start
+        predicted = Math.max(intercepts[lo], Math.min(predicted, lo + 1 < segments ? intercepts[lo + 1] : n));
+        int from = (int) Math.max(0, Math.min(n, predicted - epsilon));
+        int to = (int) Math.max(from, Math.min(n, predicted + epsilon + 2));
+        int pos = search(key, from, to);
+        // floating point rounding on huge long keys can push the answer out of the window
+        if(pos == from && from > 0 && key(from - 1) >= key) {
+            return search(key, 0, from);
+        }
+        if(pos == to && to < n && key(to) < key) {
+            return search(key, to, n);
+        }
+        return pos;
+    }
+
+    public boolean contains(long key) {
+        int pos = lowerBound(key);
+        return pos < n && key(pos) == key;
+    }
+
+    private int search(long key, int from, int to) {
+        while(from < to) {
+            int mid = (from + to) >>> 1;
+            if(key(mid) < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int epsilon() {
+        return epsilon;
+    }
+
+    public int segmentCount() {
+        return segments;
+    }
+
+    // bytes used by the model on top of the key array
+    public long memoryBytes() {
+        return (long) segments * (Long.BYTES + Double.BYTES + Integer.BYTES) + (long) radixTable.length * Integer.BYTES;
+    }
+
+    // model size as a fraction of the key array
+    public double memoryOverhead() {
+        long keyBytes = (long) n * (ints != null ? Integer.BYTES : Long.BYTES);
+        return keyBytes == 0 ? 0 : (double) memoryBytes() / keyBytes;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        java.util.Random random = new java.util.Random(42);
+        int[] keys = random.ints(1 << 25, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] queries = random.ints(5_000_000, 0, Integer.MAX_VALUE).toArray();
+        BinarySearch binarySearch = new BinarySearch();
+
+        for (int epsilon : new int[] { 16, 64, 256 }) {
+            LearnedIndex index = new LearnedIndex(keys, epsilon);
+            System.out.printf("epsilon %3d: %d segments, %d KB model, %.4f%% of the array%n",
+                    epsilon, index.segmentCount(), index.memoryBytes() / 1024, index.memoryOverhead() * 100);
+            for (int round = 0; round < 2; round++) {
+                long check = 0;
+                long start = System.nanoTime();
+                for (int q : queries) {
+                    check += binarySearch.lowerBound(keys, q);
+                }
+                long plain = System.nanoTime() - start;
+                start = System.nanoTime();
+                for (int q : queries) {
+                    check -= index.lowerBound(q);
+                }
+                long learned = System.nanoTime() - start;
+                System.out.printf("    ns/lookup  binary search %.0f | learned %.0f  (check %d)%n",
+                        (double) plain / queries.length, (double) learned / queries.length, check);
+            }
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of LearnedIndex.java
+ * 📣 Built for mastering learned index operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
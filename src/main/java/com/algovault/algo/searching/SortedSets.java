@@ -0,0 +1,203 @@
+package com.algovault.algo.searching;
+
+import com.algovault.algo.sorting.SimdSort;
+
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: SortedSets
+ * ----------------------------------------------------------
+ * 📌 Description : Intersection, union and difference of sorted,
+ *                  duplicate-free int[] lists (posting lists)
+ * 🛠️  Purpose     : Picks the kernel by the size ratio of the inputs:
+ *                  - ratio >= GALLOP_RATIO: every key of the small list is
+ *                    found in the large one by galloping from the previous
+ *                    hit, O(m log(n / m)) instead of O(n + m)
+ *                  - otherwise a linear merge, as SIMD blocks of 8 when
+ *                    SimdSort.ENABLED (VectorSearchKernels.intersect), or a
+ *                    branchless scalar merge
+ *                  intersect(lists...) starts from the smallest list and
+ *                  intersects it with the others in size order, so the
+ *                  running result only shrinks, and stops once it is empty.
+ * 🧠 Complexity   : intersect O(min(n + m, m log(n / m))), union O(n + m)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class SortedSets {
+    // size ratio from which galloping beats a merge
+    public static final int GALLOP_RATIO = 32;
+    private static final int[] EMPTY = new int[0];
+
+    public static int[] intersect(int[] a, int[] b) {
+        if(a.length > b.length) {
+            int[] temp = a;
+            a = b;
+            b = temp;
+        }
+        if(a.length == 0) {
+            return EMPTY;
+        }
+        if(b.length / a.length >= GALLOP_RATIO) {
+            return gallopIntersect(a, b);
+        }
+        int[] out = new int[a.length + VectorSearchKernels.LANES];
+        int count = SimdSort.ENABLED ? VectorSearchKernels.intersect(a, b, out) : mergeIntersect(a, b, out);
+        return Arrays.copyOf(out, count);
+    }
+
+    // intersection of all lists, smallest list first
+    public static int[] intersect(int[]... lists) {
+        if(lists.length == 0) {
+            return EMPTY;
+        }
+        int[][] bySize = lists.clone();
+        Arrays.sort(bySize, (x, y) -> Integer.compare(x.length, y.length));
+        int[] result = bySize[0];
+        for(int i=1; i<bySize.length && result.length>0; i++) {
+            result = intersect(result, bySize[i]);
+        }
+        return lists.length == 1 ? result.clone() : result;
+    }
+
+    public static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while(i < a.length && j < b.length) {
+            int x = a[i], y = b[j];
+            out[k++] = Math.min(x, y);
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        System.arraycopy(a, i, out, k, a.length - i);
+        k += a.length - i;
+        System.arraycopy(b, j, out, k, b.length - j);
+        k += b.length - j;
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+
+    // keys of a that are not in b
+    public static int[] difference(int[] a, int[] b) {
+        int[] out = new int[a.length];
+        int k = 0;
+        if(a.length > 0 && b.length / a.length >= GALLOP_RATIO) {
+            int pos = 0;
+            for(int x : a) {
+                pos = gallop(b, pos, x);
+                if(pos == b.length || b[pos] != x) {
+                    out[k++] = x;
+                }
+            }
+            return Arrays.copyOf(out, k);
+        }
+        int i = 0, j = 0;
+        while(i < a.length && j < b.length) {
+            int x = a[i], y = b[j];
+            out[k] = x;
+            k += x < y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        System.arraycopy(a, i, out, k, a.length - i);
+        k += a.length - i;
+        return Arrays.copyOf(out, k);
+    }
+
+    // branchless merge: write the candidate, keep it only on a match
+    private static int mergeIntersect(int[] a, int[] b, int[] out) {
+        int i = 0, j = 0, k = 0;
+        while(i < a.length && j < b.length) {
+            int x = a[i], y = b[j];
+            out[k] = x;
+            k += x == y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        return k;
+    }
+
+    // small is much shorter than large
+    private static int[] gallopIntersect(int[] small, int[] large) {
+        int[] out = new int[small.length];
+        int k = 0, pos = 0;
+        for(int x : small) {
+            pos = gallop(large, pos, x);
+            if(pos == large.length) {
+                break;
+            }
+            if(large[pos] == x) {
+                out[k++] = x;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    // first index >= from whose value is >= key: double the step, then binary search
+    private static int gallop(int[] arr, int from, int key) {
+        int step = 1;
+        int low = from, high = from;
+        while(high < arr.length && arr[high] < key) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, arr.length);
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+        // run with --add-modules jdk.incubator.vector for the SIMD merge
+
+        // document ids per search term
+        int[] jdk = { 1, 4, 7, 9, 15, 21 };
+        int[] sql = { 4, 5, 9, 21, 30 };
+        int[] remote = { 2, 4, 9, 11, 21, 40 };
+        System.out.println("jdk AND sql    : " + Arrays.toString(intersect(jdk, sql)));
+        System.out.println("jdk OR sql     : " + Arrays.toString(union(jdk, sql)));
+        System.out.println("jdk NOT sql    : " + Arrays.toString(difference(jdk, sql)));
+        System.out.println("all three      : " + Arrays.toString(intersect(jdk, sql, remote)));
+
+        java.util.Random random = new java.util.Random(42);
+        int[] large1 = random.ints(4_000_000, 0, 16_000_000).sorted().distinct().toArray();
+        int[] large2 = random.ints(4_000_000, 0, 16_000_000).sorted().distinct().toArray();
+        int[] rare = random.ints(2_000, 0, 16_000_000).sorted().distinct().toArray();
+        BinarySearch binarySearch = new BinarySearch();
+        System.out.println("SIMD merge: " + SimdSort.ENABLED);
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            int both = intersect(large1, large2).length;
+            long merged = System.nanoTime() - start;
+            int[] scratch = new int[large1.length];
+            start = System.nanoTime();
+            int scalar = mergeIntersect(large1, large2, scratch);
+            long scalarMerge = System.nanoTime() - start;
+            start = System.nanoTime();
+            int small = intersect(rare, large1).length;
+            long galloped = System.nanoTime() - start;
+            start = System.nanoTime();
+            int probed = 0;
+            for (int x : rare) {
+                probed += binarySearch.binarySearch(large1, x) >= 0 ? 1 : 0;
+            }
+            long binary = System.nanoTime() - start;
+            System.out.printf("4M x 4M: %d hits in %.2f ms, scalar merge %d hits in %.2f ms%n",
+                    both, merged / 1e6, scalar, scalarMerge / 1e6);
+            System.out.printf("2K x 4M: %d hits in %.3f ms, binarySearch per key %d hits in %.3f ms%n",
+                    small, galloped / 1e6, probed, binary / 1e6);
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of SortedSets.java
+ * 📣 Built for mastering sorted set operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
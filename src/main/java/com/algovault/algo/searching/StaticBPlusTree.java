@@ -0,0 +1,181 @@
+package com.algovault.algo.searching;
+
+import com.algovault.algo.sorting.SimdSort;
+
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: StaticBPlusTree
+ * ----------------------------------------------------------
+ * 📌 Description : Immutable, implicitly laid out B+-tree (S-tree) over a
+ *                  sorted int[]
+ * 🛠️  Purpose     : One node is 16 ints = one 64-byte cache line, so a
+ *                  lookup touches log17(n) lines instead of the log2(n)
+ *                  lines of a binary search (or the log2(n) / 4 of
+ *                  EytzingerIndex).
+ *                  Layout (no pointers, everything in one int[]):
+ *                  - leaves: the sorted keys in blocks of 16, the last
+ *                    block padded with Integer.MAX_VALUE
+ *                  - every inner node has 17 children, node k of a layer
+ *                    has children 17k .. 17k + 16 in the layer below, and
+ *                    key j is the smallest key under child j + 1
+ *                  - layers are stored root first, leaves last
+ *                  Lookup: in every node, child = number of keys < key.
+ *                  With SimdSort.ENABLED that count is two vector compares
+ *                  (VectorSearchKernels), otherwise a branchless scalar sum.
+ *                  Build: the smallest key under a node is the first key of
+ *                  its leftmost leaf, whose index is known, so every inner
+ *                  key is read straight out of the leaves.
+ * 🧠 Complexity   : build O(n), lookup O(log17 n) nodes, memory ~ n * 17 / 16
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class StaticBPlusTree {
+    public static final int NODE_SIZE = 16;
+    public static final int FANOUT = NODE_SIZE + 1;
+    // G1 places large arrays at a region start; with a 16-byte array header,
+    // 12 leading ints make every node start on a 64-byte line
+    private static final int ALIGN_PAD = 12;
+
+    private final int[] tree;
+    private final int n;
+    // layerOffset[h] is where layer h starts, h = 0 is the leaf layer
+    private final int[] layerOffset;
+    private final int height;
+
+    public StaticBPlusTree(int[] sorted) {
+        for(int i=1; i<sorted.length; i++) {
+            if(sorted[i-1] > sorted[i]) {
+                throw new IllegalArgumentException("Array must be sorted.");
+            }
+        }
+        this.n = sorted.length;
+
+        // nodes per layer, from the leaves up to a single root
+        int[] nodes = new int[8];
+        nodes[0] = Math.max(1, (n + NODE_SIZE - 1) / NODE_SIZE);
+        int layers = 1;
+        while(nodes[layers - 1] > 1) {
+            nodes[layers] = (nodes[layers - 1] + FANOUT - 1) / FANOUT;
+            layers++;
+        }
+        this.height = layers - 1;
+
+        // root first, leaves last
+        this.layerOffset = new int[layers];
+        long total = ALIGN_PAD;
+        for(int h=layers-1; h>=0; h--) {
+            layerOffset[h] = (int) total;
+            total += (long) nodes[h] * NODE_SIZE;
+        }
+        if(total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many keys for one tree.");
+        }
+        this.tree = new int[(int) total];
+
+        int leaves = layerOffset[0];
+        System.arraycopy(sorted, 0, tree, leaves, n);
+        Arrays.fill(tree, leaves + n, tree.length, Integer.MAX_VALUE);
+
+        // leafSpan = leaves under one node of layer h - 1
+        long leafSpan = 1;
+        for(int h=1; h<layers; h++) {
+            int offset = layerOffset[h];
+            for(int k=0; k<nodes[h]; k++) {
+                for(int j=0; j<NODE_SIZE; j++) {
+                    long child = (long) k * FANOUT + j + 1;
+                    long leaf = child * leafSpan;
+                    tree[offset + k * NODE_SIZE + j] = child < nodes[h - 1] && leaf < nodes[0]
+                            ? tree[leaves + (int) leaf * NODE_SIZE]
+                            : Integer.MAX_VALUE;
+                }
+            }
+            leafSpan *= FANOUT;
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // first sorted index whose value is >= key, size() if none
+    public int lowerBound(int key) {
+        int k = 0;
+        for(int h=height; h>0; h--) {
+            k = k * FANOUT + countLess(layerOffset[h] + k * NODE_SIZE, key);
+        }
+        return Math.min(n, k * NODE_SIZE + countLess(layerOffset[0] + k * NODE_SIZE, key));
+    }
+
+    // first sorted index whose value is > key, size() if none
+    public int upperBound(int key) {
+        return key == Integer.MAX_VALUE ? n : lowerBound(key + 1);
+    }
+
+    public boolean contains(int key) {
+        int pos = lowerBound(key);
+        return pos < n && tree[layerOffset[0] + pos] == key;
+    }
+
+    // bytes used on top of the plain sorted array
+    public long memoryOverheadBytes() {
+        return (long) (tree.length - n) * Integer.BYTES;
+    }
+
+    private int countLess(int offset, int key) {
+        if(SimdSort.ENABLED) {
+            return VectorSearchKernels.countLess16(tree, offset, key);
+        }
+        int count = 0;
+        for(int i=0; i<NODE_SIZE; i++) {
+            count += tree[offset + i] < key ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+        // run with --add-modules jdk.incubator.vector for the SIMD node search
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 25;
+        System.out.println("SIMD node search: " + SimdSort.ENABLED + ", keys: " + size);
+        java.util.Random random = new java.util.Random(42);
+        int[] keys = random.ints(size, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] queries = random.ints(5_000_000, 0, Integer.MAX_VALUE).toArray();
+
+        long start = System.nanoTime();
+        StaticBPlusTree sTree = new StaticBPlusTree(keys);
+        System.out.printf("built in %d ms, %.1f%% extra memory%n", (System.nanoTime() - start) / 1_000_000,
+                100.0 * sTree.memoryOverheadBytes() / ((long) size * Integer.BYTES));
+        EytzingerIndex eytzinger = new EytzingerIndex(keys);
+        BinarySearch binarySearch = new BinarySearch();
+
+        for (int round = 0; round < 3; round++) {
+            long check = 0;
+            start = System.nanoTime();
+            for (int q : queries) {
+                check += binarySearch.lowerBound(keys, q);
+            }
+            long plain = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int q : queries) {
+                check -= eytzinger.lowerBound(q);
+            }
+            long eytz = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int q : queries) {
+                check += sTree.lowerBound(q);
+            }
+            long bTree = System.nanoTime() - start;
+            System.out.printf("ns/lookup  binary search %.0f | eytzinger %.0f | s-tree %.0f  (%d)%n",
+                    (double) plain / queries.length, (double) eytz / queries.length,
+                    (double) bTree / queries.length, check);
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of StaticBPlusTree.java
+ * 📣 Built for mastering cache-line search trees stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,318 @@
+package com.algovault.algo.sorting;
+
+/************************************************************
+ * 🔰 CLASS: CoSort
+ * ----------------------------------------------------------
+ * 📌 Description : Argsort and key/payload co-sorting for columnar data
+ * 🛠️  Purpose     : Sorts an int[] key column and carries any number of
+ *                  parallel payload columns (int[], long[] or Object[])
+ *                  along with it, so records never have to be wrapped in
+ *                  objects and nothing is boxed.
+ *                  One payload column goes through the typed overloads,
+ *                  several through sortStableColumns / sortColumns with an
+ *                  explicit Object[] of columns. There is no varargs form:
+ *                  a lone String[] would be taken as the column list itself.
+ *                  argsort / sortStable:
+ *                  every key is packed with its index into one long,
+ *                  ((long) key << 32) | index, and the longs are sorted with
+ *                  RadixSort. Equal keys keep their index order, so the
+ *                  resulting permutation is stable. The permutation is then
+ *                  gathered into every column.
+ *                  sort (unstable):
+ *                  in-place introsort on the keys whose swaps are applied
+ *                  to every payload column, no O(n) buffers needed.
+ * 🧠 Complexity   : argsort / sortStable - O(n), O(n) extra space per column
+ *                  sort - O(n log n), O(1) extra space
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class CoSort {
+    private static final int INSERTION_CUTOFF = 24;
+    private final RadixSort radixSort = new RadixSort();
+
+    // permutation that sorts keys stably: keys[perm[0]] <= keys[perm[1]] <= ...
+    public int[] argsort(int[] keys) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for(int i=0; i<n; i++) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+        radixSort.sort(packed);
+        int[] perm = new int[n];
+        for(int i=0; i<n; i++) {
+            perm[i] = (int) packed[i];
+        }
+        return perm;
+    }
+
+    // stable sort of keys, applying the same reordering to the payload column
+    public void sortStable(int[] keys, int[] payload) {
+        sortStableColumns(keys, new Object[] { payload });
+    }
+
+    public void sortStable(int[] keys, long[] payload) {
+        sortStableColumns(keys, new Object[] { payload });
+    }
+
+    public void sortStable(int[] keys, Object[] payload) {
+        sortStableColumns(keys, new Object[] { payload });
+    }
+
+    // stable sort of keys, applying the same reordering to every column in payloads
+    public void sortStableColumns(int[] keys, Object[] payloads) {
+        checkColumns(keys.length, payloads);
+        int[] perm = argsort(keys);
+        applyPermutation(perm, keys);
+        for(Object payload : payloads) {
+            if(payload instanceof int[] column) {
+                applyPermutation(perm, column);
+            } else if(payload instanceof long[] column) {
+                applyPermutation(perm, column);
+            } else {
+                applyPermutation(perm, (Object[]) payload);
+            }
+        }
+    }
+
+    // reorder arr so that arr[i] becomes arr[perm[i]]
+    public void applyPermutation(int[] perm, int[] arr) {
+        int[] gathered = new int[perm.length];
+        for(int i=0; i<perm.length; i++) {
+            gathered[i] = arr[perm[i]];
+        }
+        System.arraycopy(gathered, 0, arr, 0, perm.length);
+    }
+
+    public void applyPermutation(int[] perm, long[] arr) {
+        long[] gathered = new long[perm.length];
+        for(int i=0; i<perm.length; i++) {
+            gathered[i] = arr[perm[i]];
+        }
+        System.arraycopy(gathered, 0, arr, 0, perm.length);
+    }
+
+    public void applyPermutation(int[] perm, Object[] arr) {
+        Object[] gathered = new Object[perm.length];
+        for(int i=0; i<perm.length; i++) {
+            gathered[i] = arr[perm[i]];
+        }
+        System.arraycopy(gathered, 0, arr, 0, perm.length);
+    }
+
+    // unstable in-place sort of keys, every swap is mirrored in the payload column
+    public void sort(int[] keys, int[] payload) {
+        sortColumns(keys, new Object[] { payload });
+    }
+
+    public void sort(int[] keys, long[] payload) {
+        sortColumns(keys, new Object[] { payload });
+    }
+
+    public void sort(int[] keys, Object[] payload) {
+        sortColumns(keys, new Object[] { payload });
+    }
+
+    // unstable in-place sort of keys, every swap is mirrored in every column in payloads
+    public void sortColumns(int[] keys, Object[] payloads) {
+        checkColumns(keys.length, payloads);
+        if(keys.length < 2) {
+            return;
+        }
+        Columns columns = new Columns(keys, payloads);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(keys.length));
+        introSort(columns, 0, keys.length-1, depthLimit);
+    }
+
+    private void checkColumns(int n, Object[] payloads) {
+        for(Object payload : payloads) {
+            int length;
+            if(payload instanceof int[] column) {
+                length = column.length;
+            } else if(payload instanceof long[] column) {
+                length = column.length;
+            } else if(payload instanceof Object[] column) {
+                length = column.length;
+            } else {
+                throw new IllegalArgumentException("Payload must be int[], long[] or Object[].");
+            }
+            if(length != n) {
+                throw new IllegalArgumentException("Payload length " + length + " does not match key length " + n + ".");
+            }
+        }
+    }
+
+    private void introSort(Columns c, int low, int high, int depthLimit) {
+        int[] keys = c.keys;
+        while(high-low+1 > INSERTION_CUTOFF) {
+            if(depthLimit == 0) {
+                heapSort(c, low, high);
+                return;
+            }
+            depthLimit--;
+            // median of three moved to low, then Hoare partition
+            int mid = low + (high-low)/2;
+            if(keys[mid] < keys[low]) {
+                c.swap(mid, low);
+            }
+            if(keys[high] < keys[low]) {
+                c.swap(high, low);
+            }
+            if(keys[high] < keys[mid]) {
+                c.swap(high, mid);
+            }
+            c.swap(low, mid);
+            int pivot = keys[low];
+            int i = low, j = high+1;
+            while(true) {
+                while(keys[++i] < pivot) {
+                    if(i == high) {
+                        break;
+                    }
+                }
+                while(pivot < keys[--j]) {
+                    // keys[low] is the pivot, so this scan stops there at the latest
+                }
+                if(i >= j) {
+                    break;
+                }
+                c.swap(i, j);
+            }
+            c.swap(low, j);
+            if(j-low < high-j) {
+                introSort(c, low, j-1, depthLimit);
+                low = j+1;
+            } else {
+                introSort(c, j+1, high, depthLimit);
+                high = j-1;
+            }
+        }
+        // insertion sort by adjacent swaps, so payloads follow their keys
+        for(int i=low+1; i<=high; i++) {
+            for(int j=i; j>low && keys[j-1] > keys[j]; j--) {
+                c.swap(j-1, j);
+            }
+        }
+    }
+
+    private void heapSort(Columns c, int low, int high) {
+        int n = high-low+1;
+        for(int i=n/2-1; i>=0; i--) {
+            siftDown(c, low, i, n);
+        }
+        for(int end=n-1; end>0; end--) {
+            c.swap(low, low+end);
+            siftDown(c, low, 0, end);
+        }
+    }
+
+    private void siftDown(Columns c, int base, int i, int n) {
+        int[] keys = c.keys;
+        while(true) {
+            int child = 2*i+1;
+            if(child >= n) {
+                return;
+            }
+            if(child+1 < n && keys[base+child+1] > keys[base+child]) {
+                child++;
+            }
+            if(keys[base+child] <= keys[base+i]) {
+                return;
+            }
+            c.swap(base+i, base+child);
+            i = child;
+        }
+    }
+
+    // the key column plus its payload columns, split by type once so swaps don't check types
+    private static final class Columns {
+        final int[] keys;
+        final int[][] ints;
+        final long[][] longs;
+        final Object[][] objects;
+
+        Columns(int[] keys, Object[] payloads) {
+            this.keys = keys;
+            int intCount = 0, longCount = 0, objectCount = 0;
+            for(Object payload : payloads) {
+                if(payload instanceof int[]) {
+                    intCount++;
+                } else if(payload instanceof long[]) {
+                    longCount++;
+                } else {
+                    objectCount++;
+                }
+            }
+            ints = new int[intCount][];
+            longs = new long[longCount][];
+            objects = new Object[objectCount][];
+            intCount = longCount = objectCount = 0;
+            for(Object payload : payloads) {
+                if(payload instanceof int[] column) {
+                    ints[intCount++] = column;
+                } else if(payload instanceof long[] column) {
+                    longs[longCount++] = column;
+                } else {
+                    objects[objectCount++] = (Object[]) payload;
+                }
+            }
+        }
+
+        void swap(int i, int j) {
+            int key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            for(int[] column : ints) {
+                int temp = column[i];
+                column[i] = column[j];
+                column[j] = temp;
+            }
+            for(long[] column : longs) {
+                long temp = column[i];
+                column[i] = column[j];
+                column[j] = temp;
+            }
+            for(Object[] column : objects) {
+                Object temp = column[i];
+                column[i] = column[j];
+                column[j] = temp;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int[] latency = { 120, 45, 300, 45, 80 };
+        long[] requestId = { 1001L, 1002L, 1003L, 1004L, 1005L };
+        String[] endpoint = { "/login", "/home", "/report", "/search", "/cart" };
+
+        CoSort coSort = new CoSort();
+        int[] perm = coSort.argsort(latency);
+        System.out.print("Argsort of latency: ");
+        for (int index : perm) {
+            System.out.print(index + " ");
+        }
+
+        coSort.sortStableColumns(latency, new Object[] { requestId, endpoint });
+        System.out.println("\nRows sorted by latency (stable): ");
+        for (int i = 0; i < latency.length; i++) {
+            System.out.println(latency[i] + " " + requestId[i] + " " + endpoint[i]);
+        }
+
+        // the most common case: int keys with a single object column
+        int[] rank = { 3, 1, 2 };
+        String[] name = { "c", "a", "b" };
+        coSort.sort(rank, name);
+        System.out.print("Single String[] payload: ");
+        for (int i = 0; i < rank.length; i++) {
+            System.out.print(rank[i] + "=" + name[i] + " ");
+        }
+        System.out.println();
+    }
+}
+/************************************************************
+ * 🔚 End of CoSort.java
+ * 📣 Built for mastering argsort and co-sorting stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
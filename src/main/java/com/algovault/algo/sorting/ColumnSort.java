@@ -0,0 +1,156 @@
+package com.algovault.algo.sorting;
+
+/************************************************************
+ * 🔰 CLASS: ColumnSort
+ * ----------------------------------------------------------
+ * 📌 Description : Multi-column lexicographic sort for columnar int data
+ * 🛠️  Purpose     : Sorts table rows by (column a, column b, ...) with a
+ *                  direction per column and returns the row permutation,
+ *                  without building one object per row.
+ *                  Packed path:
+ *                  when the value ranges of the sort columns plus the row
+ *                  index fit in 63 bits, each row becomes one long
+ *                  (key a | key b | ... | row) and a single radix sort of
+ *                  the longs orders everything.
+ *                  Column path:
+ *                  otherwise the columns are processed from the least
+ *                  significant one upward, each pass a stable radix sort of
+ *                  (key, position) pairs, so earlier passes decide ties of
+ *                  later ones (LSD on whole columns).
+ *                  Descending columns are flipped (~v, or max - v) before
+ *                  sorting. Columns whose values are all equal are skipped.
+ *                  Apply the result with CoSort.applyPermutation.
+ * 🧠 Complexity   : O(n) per radix pass, O(n) extra space
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class ColumnSort {
+    private final RadixSort radixSort = new RadixSort();
+
+    // all columns ascending, in the given order
+    public int[] sort(int[][] columns, int[] order) {
+        return sort(columns, order, new boolean[order.length]);
+    }
+
+    // row permutation sorting by columns[order[0]], then columns[order[1]], ...
+    // descending[i] flips the direction of the i-th sort column
+    public int[] sort(int[][] columns, int[] order, boolean[] descending) {
+        if(order.length != descending.length) {
+            throw new IllegalArgumentException("order and descending must have the same length.");
+        }
+        int n = order.length == 0 ? 0 : columns[order[0]].length;
+        for(int c : order) {
+            if(columns[c].length != n) {
+                throw new IllegalArgumentException("Column " + c + " has " + columns[c].length + " rows, expected " + n + ".");
+            }
+        }
+
+        int[] min = new int[order.length];
+        int[] max = new int[order.length];
+        int[] widths = new int[order.length];
+        int totalBits = 32 - Integer.numberOfLeadingZeros(Math.max(0, n - 1));
+        for(int i=0; i<order.length; i++) {
+            int[] column = columns[order[i]];
+            int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+            for(int v : column) {
+                lo = Math.min(lo, v);
+                hi = Math.max(hi, v);
+            }
+            min[i] = lo;
+            max[i] = hi;
+            widths[i] = n == 0 ? 0 : 64 - Long.numberOfLeadingZeros((long) hi - lo);
+            totalBits += widths[i];
+        }
+        if(totalBits <= 63) {
+            return packedSort(columns, order, descending, min, max, widths, n);
+        }
+        return columnSort(columns, order, descending, min, max, n);
+    }
+
+    // one radix sort over (key a | key b | ... | row) packed into a long
+    private int[] packedSort(int[][] columns, int[] order, boolean[] descending,
+                             int[] min, int[] max, int[] widths, int n) {
+        int rowBits = 32 - Integer.numberOfLeadingZeros(Math.max(0, n - 1));
+        long[] packed = new long[n];
+        for(int i=0; i<order.length; i++) {
+            if(widths[i] == 0) {
+                continue;
+            }
+            int[] column = columns[order[i]];
+            int width = widths[i];
+            boolean desc = descending[i];
+            long lo = min[i], hi = max[i];
+            for(int row=0; row<n; row++) {
+                long key = desc ? hi - column[row] : column[row] - lo;
+                packed[row] = (packed[row] << width) | key;
+            }
+        }
+        for(int row=0; row<n; row++) {
+            packed[row] = (packed[row] << rowBits) | row;
+        }
+        radixSort.sort(packed);
+        long rowMask = (1L << rowBits) - 1;
+        int[] perm = new int[n];
+        for(int i=0; i<n; i++) {
+            perm[i] = (int) (packed[i] & rowMask);
+        }
+        return perm;
+    }
+
+    // stable LSD passes, least significant sort column first
+    private int[] columnSort(int[][] columns, int[] order, boolean[] descending, int[] min, int[] max, int n) {
+        int[] perm = new int[n];
+        for(int row=0; row<n; row++) {
+            perm[row] = row;
+        }
+        long[] packed = new long[n];
+        int[] next = new int[n];
+        for(int i=order.length-1; i>=0; i--) {
+            if(min[i] == max[i]) {
+                continue;
+            }
+            int[] column = columns[order[i]];
+            boolean desc = descending[i];
+            // ~v reverses the order of ints, the position keeps the pass stable
+            for(int j=0; j<n; j++) {
+                int v = column[perm[j]];
+                packed[j] = ((long) (desc ? ~v : v) << 32) | j;
+            }
+            radixSort.sort(packed);
+            for(int j=0; j<n; j++) {
+                next[j] = perm[(int) packed[j]];
+            }
+            int[] temp = perm;
+            perm = next;
+            next = temp;
+        }
+        return perm;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int[] region = { 2, 1, 2, 1, 3, 1 };
+        int[] day = { 20251, 20250, 20250, 20251, 20250, 20250 };
+        int[] latency = { 120, 340, 95, 80, 210, 150 };
+        int[][] table = { region, day, latency };
+
+        // region ascending, day ascending, latency descending
+        int[] perm = new ColumnSort().sort(table, new int[] { 0, 1, 2 }, new boolean[] { false, false, true });
+
+        CoSort coSort = new CoSort();
+        for (int[] column : table) {
+            coSort.applyPermutation(perm, column);
+        }
+        System.out.println("region day latency");
+        for (int row = 0; row < region.length; row++) {
+            System.out.println(region[row] + "      " + day[row] + " " + latency[row]);
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of ColumnSort.java
+ * 📣 Built for mastering columnar sort operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
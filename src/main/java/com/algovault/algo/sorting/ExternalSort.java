@@ -0,0 +1,288 @@
+package com.algovault.algo.sorting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/************************************************************
+ * 🔰 CLASS: ExternalSort
+ * ----------------------------------------------------------
+ * 📌 Description : Implementation of External Merge Sort for files of
+ *                  binary 4-byte ints
+ * 🛠️  Purpose     : Sorts files that are much larger than the heap.
+ *                  1. Run phase: read a chunk of runSize ints, sort it in
+ *                     memory with RadixSort and spill it to a temp file
+ *                  2. Merge phase: a min-heap over the head of every run
+ *                     picks the next smallest int (k-way merge)
+ *                  If there are more runs than the memory budget has merge
+ *                  buffers for, groups of runs are merged into longer runs
+ *                  first. All reads and writes go through FileChannel with
+ *                  large buffers, so the disk is accessed sequentially.
+ * 🧠 Complexity   : O(n log n) CPU, about 2 * (1 + merge passes) * n * 4
+ *                  bytes of disk traffic
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class ExternalSort {
+    public static final long DEFAULT_MEMORY_BUDGET = 256L << 20;
+    // smallest read buffer per run during a merge
+    private static final int MIN_MERGE_BUFFER = 64 * 1024;
+    // larger buffers stop paying off once reads are this big
+    private static final int MAX_MERGE_BUFFER = 16 << 20;
+    // bytes of heap per int of a run: the read buffer, the int[] and the radix buffer
+    private static final int BYTES_PER_RUN_INT = 12;
+    // a run is read through one ByteBuffer, whose capacity in bytes is an int
+    public static final int MAX_RUN_SIZE = (Integer.MAX_VALUE - 8) / Integer.BYTES;
+
+    private final long memoryBudget;
+    private final int runSize;
+    private final Path tempDir;
+    private final ByteOrder order;
+    private final RadixSort sorter = new RadixSort();
+
+    public ExternalSort() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    public ExternalSort(long memoryBudget) {
+        this(memoryBudget, (int) Math.min(MAX_RUN_SIZE, memoryBudget / BYTES_PER_RUN_INT),
+                Path.of(System.getProperty("java.io.tmpdir")), ByteOrder.BIG_ENDIAN);
+    }
+
+    // memoryBudget in bytes, runSize in ints per sorted run
+    public ExternalSort(long memoryBudget, int runSize, Path tempDir, ByteOrder order) {
+        if(memoryBudget < 2L * MIN_MERGE_BUFFER) {
+            throw new IllegalArgumentException("Memory budget must be at least " + 2 * MIN_MERGE_BUFFER + " bytes.");
+        }
+        if(runSize <= 0 || (long) runSize * BYTES_PER_RUN_INT > memoryBudget) {
+            throw new IllegalArgumentException("Run size does not fit in the memory budget.");
+        }
+        if(runSize > MAX_RUN_SIZE) {
+            throw new IllegalArgumentException("Run size must be at most " + MAX_RUN_SIZE + " ints.");
+        }
+        this.memoryBudget = memoryBudget;
+        this.runSize = runSize;
+        this.tempDir = tempDir;
+        this.order = order;
+    }
+
+    // sort the ints of input into output, input is left untouched
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            createRuns(input, runs);
+            int fanIn = (int) Math.max(2, memoryBudget / MIN_MERGE_BUFFER - 1);
+            while(runs.size() > fanIn) {
+                // intermediate pass: merge groups of runs into longer runs
+                List<Path> merged = new ArrayList<>();
+                try {
+                    for(int i=0; i<runs.size(); i+=fanIn) {
+                        List<Path> group = runs.subList(i, Math.min(runs.size(), i+fanIn));
+                        Path target = Files.createTempFile(tempDir, "algovault-run", ".bin");
+                        merged.add(target);
+                        merge(group, target);
+                    }
+                } catch(IOException | RuntimeException e) {
+                    deleteAll(merged);
+                    throw e;
+                }
+                deleteAll(runs);
+                runs = merged;
+            }
+            merge(runs, output);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    // read runSize ints at a time, sort them and spill each chunk to its own temp file
+    private void createRuns(Path input, List<Path> runs) throws IOException {
+        try(FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            if(in.size() % Integer.BYTES != 0) {
+                throw new IOException("Input size is not a multiple of 4 bytes: " + input);
+            }
+            ByteBuffer bytes = ByteBuffer.allocateDirect(runSize * Integer.BYTES).order(order);
+            int[] run = new int[runSize];
+            while(true) {
+                bytes.clear();
+                readFully(in, bytes);
+                bytes.flip();
+                int count = bytes.remaining() / Integer.BYTES;
+                if(count == 0) {
+                    break;
+                }
+                bytes.asIntBuffer().get(run, 0, count);
+                int[] chunk = count == runSize ? run : Arrays.copyOf(run, count);
+                sorter.sort(chunk);
+
+                Path runFile = Files.createTempFile(tempDir, "algovault-run", ".bin");
+                runs.add(runFile);
+                bytes.clear();
+                bytes.asIntBuffer().put(chunk, 0, count);
+                bytes.limit(count * Integer.BYTES);
+                try(FileChannel out = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+                    writeFully(out, bytes);
+                }
+            }
+        }
+    }
+
+    // k-way merge of sorted run files into target using a min-heap of run readers
+    private void merge(List<Path> runs, Path target) throws IOException {
+        int k = runs.size();
+        int bufferSize = (int) Math.min(MAX_MERGE_BUFFER, memoryBudget / (k + 1));
+        bufferSize -= bufferSize % Integer.BYTES;
+
+        RunReader[] readers = new RunReader[k];
+        try(FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for(int i=0; i<k; i++) {
+                readers[i] = new RunReader(runs.get(i), bufferSize, order);
+                if(readers[i].advance()) {
+                    heap[heapSize++] = i;
+                }
+            }
+            for(int i=heapSize/2-1; i>=0; i--) {
+                siftDown(heap, heapSize, i, readers);
+            }
+
+            ByteBuffer outBuffer = ByteBuffer.allocateDirect(bufferSize).order(order);
+            while(heapSize > 0) {
+                RunReader top = readers[heap[0]];
+                if(!outBuffer.hasRemaining()) {
+                    outBuffer.flip();
+                    writeFully(out, outBuffer);
+                    outBuffer.clear();
+                }
+                outBuffer.putInt(top.current);
+                if(!top.advance()) {
+                    // this run is exhausted, replace the root with the last reader
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, readers);
+            }
+            outBuffer.flip();
+            writeFully(out, outBuffer);
+        } finally {
+            for(RunReader reader : readers) {
+                if(reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int i, RunReader[] readers) {
+        int item = heap[i];
+        int value = readers[item].current;
+        while(true) {
+            int child = 2*i+1;
+            if(child >= heapSize) {
+                break;
+            }
+            if(child+1 < heapSize && readers[heap[child+1]].current < readers[heap[child]].current) {
+                child++;
+            }
+            if(readers[heap[child]].current >= value) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining() && in.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file ends
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for(Path file : files) {
+            Files.deleteIfExists(file);
+        }
+        files.clear();
+    }
+
+    // buffered sequential reader over one sorted run
+    private static final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int current;
+
+        RunReader(Path run, int bufferSize, ByteOrder order) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize).order(order);
+            buffer.limit(0);
+        }
+
+        // load the next int into current, false once the run is exhausted
+        boolean advance() throws IOException {
+            if(!buffer.hasRemaining()) {
+                buffer.clear();
+                readFully(channel, buffer);
+                buffer.flip();
+                if(!buffer.hasRemaining()) {
+                    return false;
+                }
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        Path input = Files.createTempFile("algovault-input", ".bin");
+        Path output = Files.createTempFile("algovault-output", ".bin");
+        int n = 2_000_000;
+        ByteBuffer data = ByteBuffer.allocate(n * Integer.BYTES);
+        new java.util.Random(42).ints(n).forEach(data::putInt);
+        Files.write(input, data.array());
+
+        // 1 MB budget: 87381-int runs, so the file is spilled into 23 runs
+        new ExternalSort(1 << 20).sort(input, output);
+
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        boolean ok = sorted.remaining() == n * Integer.BYTES;
+        int previous = Integer.MIN_VALUE;
+        while (ok && sorted.hasRemaining()) {
+            int value = sorted.getInt();
+            ok = previous <= value;
+            previous = value;
+        }
+        System.out.println("External sort of " + n + " ints sorted: " + ok);
+
+        Files.delete(input);
+        Files.delete(output);
+    }
+}
+/************************************************************
+ * 🔚 End of ExternalSort.java
+ * 📣 Built for mastering external sort operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
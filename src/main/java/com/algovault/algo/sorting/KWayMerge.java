@@ -0,0 +1,265 @@
+package com.algovault.algo.sorting;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/************************************************************
+ * 🔰 CLASS: KWayMerge
+ * ----------------------------------------------------------
+ * 📌 Description : In-memory k-way merge of sorted int[] sources
+ *                  using a loser tree (tournament tree)
+ * 🛠️  Purpose     : Merges many already sorted shards without
+ *                  concatenating and re-sorting them.
+ *                  Loser tree: the leaves are the heads of the k sources,
+ *                  every inner node remembers the loser of the match played
+ *                  there and node 0 holds the overall winner. After the
+ *                  winner is taken, only the matches on the path from its
+ *                  leaf to the root are replayed, one comparison per level.
+ *                  Parallel mode (merge path):
+ *                  the output is cut into equal slices. For each cut rank r
+ *                  a binary search over the values finds how many elements
+ *                  of every source belong to the first r outputs. Slices are
+ *                  then merged independently, each with its own loser tree.
+ * 🧠 Complexity   : O(n log k), parallel split O(P * k * log n * 32)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class KWayMerge implements PrimitiveIterator.OfInt {
+    // head value of an exhausted source, larger than every int
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+    // outputs below this size are not worth splitting across cores
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int[][] sources;
+    private final int[] pos;
+    private final int[] end;
+    private final long[] heads;
+    // tree[0] is the winner, tree[1..k-1] are the losers of each match
+    private final int[] tree;
+    private final int k;
+
+    // iterate over the merge of the given sorted sources
+    public KWayMerge(int[]... sources) {
+        this(sources, new int[sources.length], lengths(sources));
+    }
+
+    // merge of sources[i][from[i], to[i]) for every i
+    private KWayMerge(int[][] sources, int[] from, int[] to) {
+        this.sources = sources;
+        this.k = sources.length;
+        this.pos = from.clone();
+        this.end = to;
+        this.heads = new long[k];
+        this.tree = new int[Math.max(1, k)];
+        for(int i=0; i<k; i++) {
+            heads[i] = pos[i] < end[i] ? sources[i][pos[i]] : EXHAUSTED;
+        }
+        build();
+    }
+
+    // play every match bottom-up once
+    private void build() {
+        if(k == 0) {
+            return;
+        }
+        // winners[k+i] is leaf i, winners[1..k-1] the winner of each inner node
+        int[] winners = new int[2 * k];
+        for(int i=0; i<k; i++) {
+            winners[k + i] = i;
+        }
+        for(int node=k-1; node>=1; node--) {
+            int a = winners[2 * node], b = winners[2 * node + 1];
+            if(beats(b, a)) {
+                winners[node] = b;
+                tree[node] = a;
+            } else {
+                winners[node] = a;
+                tree[node] = b;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    // lower head wins, ties go to the lower source index so equal keys keep source order
+    private boolean beats(int a, int b) {
+        return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && heads[tree[0]] != EXHAUSTED;
+    }
+
+    @Override
+    public int nextInt() {
+        if(!hasNext()) {
+            throw new NoSuchElementException("All sources are exhausted.");
+        }
+        int winner = tree[0];
+        int value = (int) heads[winner];
+        pos[winner]++;
+        heads[winner] = pos[winner] < end[winner] ? sources[winner][pos[winner]] : EXHAUSTED;
+        // replay the matches on the path from the winner's leaf to the root
+        for(int node=(winner + k) >> 1; node>=1; node>>=1) {
+            if(beats(tree[node], winner)) {
+                int temp = tree[node];
+                tree[node] = winner;
+                winner = temp;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+
+    // merge all sources into a new array
+    public static int[] merge(int[]... sources) {
+        int[] dest = new int[total(sources)];
+        mergeInto(sources, dest, 0);
+        return dest;
+    }
+
+    // merge all sources into dest starting at offset
+    public static void mergeInto(int[][] sources, int[] dest, int offset) {
+        KWayMerge merge = new KWayMerge(sources);
+        int total = total(sources);
+        for(int i=0; i<total; i++) {
+            dest[offset + i] = merge.nextInt();
+        }
+    }
+
+    // merge all sources into a new array, slices of the output merged on the common pool
+    public static int[] parallelMerge(int[]... sources) {
+        int total = total(sources);
+        int[] dest = new int[total];
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        int slices = total < PARALLEL_THRESHOLD ? 1 : Math.min(parallelism * 4, total / (PARALLEL_THRESHOLD / 4));
+        if(slices <= 1) {
+            mergeInto(sources, dest, 0);
+            return dest;
+        }
+        // cuts[p] = per-source prefix lengths holding the first p * total / slices outputs
+        int[][] cuts = new int[slices + 1][];
+        IntStream.rangeClosed(0, slices).parallel()
+                .forEach(p -> cuts[p] = splitAtRank(sources, (int) ((long) p * total / slices)));
+        IntStream.range(0, slices).parallel().forEach(p -> {
+            KWayMerge merge = new KWayMerge(sources, cuts[p], cuts[p + 1]);
+            int start = (int) ((long) p * total / slices);
+            int stop = (int) ((long) (p + 1) * total / slices);
+            for(int i=start; i<stop; i++) {
+                dest[i] = merge.nextInt();
+            }
+        });
+        return dest;
+    }
+
+    // how many elements of each source are among the first rank outputs of the merge
+    static int[] splitAtRank(int[][] sources, int rank) {
+        int k = sources.length;
+        int[] split = new int[k];
+        if(rank == 0) {
+            return split;
+        }
+        // smallest value v with at least rank elements <= v
+        long lo = Integer.MIN_VALUE, hi = Integer.MAX_VALUE;
+        while(lo < hi) {
+            long mid = (lo + hi) >> 1;
+            long countLE = 0;
+            for(int[] source : sources) {
+                countLE += bound(source, (int) mid, false);
+            }
+            if(countLE >= rank) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        int v = (int) lo;
+        // everything below v is in, keys equal to v are handed out in source order
+        long need = rank;
+        int[] upper = new int[k];
+        for(int i=0; i<k; i++) {
+            split[i] = bound(sources[i], v, true);
+            upper[i] = bound(sources[i], v, false);
+            need -= split[i];
+        }
+        for(int i=0; i<k && need>0; i++) {
+            int take = (int) Math.min(need, upper[i] - split[i]);
+            split[i] += take;
+            need -= take;
+        }
+        return split;
+    }
+
+    // number of elements < key (strict) or <= key in a sorted array
+    private static int bound(int[] arr, int key, boolean strict) {
+        int lo = 0, hi = arr.length;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(strict ? arr[mid] < key : arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int[] lengths(int[][] sources) {
+        int[] lengths = new int[sources.length];
+        for(int i=0; i<sources.length; i++) {
+            lengths[i] = sources[i].length;
+        }
+        return lengths;
+    }
+
+    private static int total(int[][] sources) {
+        long total = 0;
+        for(int[] source : sources) {
+            total += source.length;
+        }
+        if(total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged output does not fit in one array.");
+        }
+        return (int) total;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int[][] shards = { { 1, 4, 9 }, { 2, 3, 10, 12 }, { }, { 0, 5, 6, 7 } };
+        System.out.print("Merged: ");
+        KWayMerge it = new KWayMerge(shards);
+        while (it.hasNext()) {
+            System.out.print(it.nextInt() + " ");
+        }
+
+        // 64 sorted shards, one per worker
+        java.util.Random random = new java.util.Random(42);
+        RadixSort radixSort = new RadixSort();
+        int[][] workers = new int[64][];
+        for (int w = 0; w < workers.length; w++) {
+            workers[w] = random.ints(100_000).toArray();
+            radixSort.sort(workers[w]);
+        }
+        long start = System.nanoTime();
+        int[] merged = parallelMerge(workers);
+        long elapsed = System.nanoTime() - start;
+        boolean sorted = true;
+        for (int i = 1; i < merged.length; i++) {
+            if (merged[i-1] > merged[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        System.out.printf("%nParallel merge of 64 shards (%d ints) sorted: %b in %d ms%n",
+                merged.length, sorted, elapsed / 1_000_000);
+    }
+}
+/************************************************************
+ * 🔚 End of KWayMerge.java
+ * 📣 Built for mastering k-way merge operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
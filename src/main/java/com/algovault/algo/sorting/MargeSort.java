@@ -1,4 +1,8 @@
 package com.algovault.algo.sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /************************************************************
  * 🔰 CLASS: MargeSort
  * ----------------------------------------------------------
@@ -18,7 +22,22 @@ package com.algovault.algo.sorting;
  *                  2. Merge  [43]  and  [10]  to get  [10,43]
  *                  3. Merge  [27, 38]  and  [10,43]  to get the final sorted list  [10, 27, 38, 43]
  *
- * 🧠 Complexity   : O(n log n)
+ *                  Parallel mode:
+ *                  parallelMergeSort copies the input once into a scratch
+ *                  buffer of size n and then ping-pongs between the two
+ *                  arrays, so no temp arrays are created per merge. Halves
+ *                  above the threshold are sorted and merged as ForkJoin tasks.
+ *                  Base cases use the SIMD sorting network when enabled.
+ *                  Adaptive mode (TimSort style):
+ *                  adaptiveMergeSort finds the natural ascending runs
+ *                  (reversing strictly descending ones), extends short runs
+ *                  to minRun with binary insertion sort and keeps them on a
+ *                  stack whose lengths shrink faster than Fibonacci. Merges
+ *                  switch to galloping when one run keeps winning, so nearly
+ *                  sorted input is handled in close to linear time.
+ *
+ * 🧠 Complexity   : O(n log n), O(n) extra space allocated once per sort,
+ *                  O(n) for adaptiveMergeSort on already sorted input
  *
  * 🧑‍💻 Crafted With Logic & Love by Masum | 05-Aug-2025
  ************************************************************/
@@ -81,6 +100,607 @@ public class MargeSort {
         }
     }
 
+    // ranges smaller than this are sorted on the calling thread
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+    // ranges smaller than this are finished with insertion sort
+    private static final int INSERTION_CUTOFF = 32;
+    // pingPongSort base case, larger when the SIMD sorting network is available
+    private static final int BASE_CASE_CUTOFF = SimdSort.ENABLED ? SimdSort.BASE_CASE_SIZE : INSERTION_CUTOFF;
+
+    // parallel merge sort on the common pool with the default threshold
+    public static void parallelMergeSort(int[] arr) {
+        parallelMergeSort(arr, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    // parallel merge sort with a tunable sequential threshold
+    public static void parallelMergeSort(int[] arr, int threshold) {
+        parallelMergeSort(arr, threshold, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelMergeSort(int[] arr, int threshold, ForkJoinPool pool) {
+        if(threshold < INSERTION_CUTOFF) {
+            throw new IllegalArgumentException("Threshold must be at least " + INSERTION_CUTOFF);
+        }
+        if(arr.length < 2) {
+            return;
+        }
+        // the only allocation of the sort: both arrays start with the same contents
+        int[] buffer = arr.clone();
+        pool.invoke(new SortTask(arr, buffer, 0, arr.length, threshold));
+    }
+
+    // sorts dst[lo, hi) using src[lo, hi) as scratch; both ranges must hold the same values on entry
+    private static void pingPongSort(int[] dst, int[] src, int lo, int hi) {
+        if(hi - lo <= BASE_CASE_CUTOFF) {
+            if(SimdSort.ENABLED) {
+                SimdSort.sortSmall(dst, lo, hi);
+            } else {
+                insertionSort(dst, lo, hi);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        pingPongSort(src, dst, lo, mid);
+        pingPongSort(src, dst, mid, hi);
+        // halves already in order, nothing to merge
+        if(src[mid-1] <= src[mid]) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        mergeInto(src, lo, mid, src, mid, hi, dst, lo);
+    }
+
+    // merge a[aLo, aHi) and b[bLo, bHi) into dst starting at k
+    private static void mergeInto(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] dst, int k) {
+        while(aLo < aHi && bLo < bHi) {
+            dst[k++] = a[aLo] <= b[bLo] ? a[aLo++] : b[bLo++];
+        }
+        if(aLo < aHi) {
+            System.arraycopy(a, aLo, dst, k, aHi - aLo);
+        } else if(bLo < bHi) {
+            System.arraycopy(b, bLo, dst, k, bHi - bLo);
+        }
+    }
+
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for(int i=lo+1; i<hi; i++) {
+            int key = arr[i];
+            int j = i-1;
+            while(j>=lo && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    // first index in arr[lo, hi) whose value is >= key (or > key when strict is false)
+    private static int boundary(int[] arr, int lo, int hi, int key, boolean strict) {
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(strict ? arr[mid] < key : arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // sorts dst[lo, hi) with src as scratch, forking both halves above the threshold
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] dst, src;
+        private final int lo, hi, threshold;
+
+        SortTask(int[] dst, int[] src, int lo, int hi, int threshold) {
+            this.dst = dst;
+            this.src = src;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if(hi - lo <= threshold) {
+                pingPongSort(dst, src, lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(src, dst, lo, mid, threshold),
+                      new SortTask(src, dst, mid, hi, threshold));
+            if(src[mid-1] <= src[mid]) {
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+                return;
+            }
+            new MergeTask(src, lo, mid, mid, hi, dst, lo, threshold).compute();
+        }
+    }
+
+    // merges two sorted runs of src into dst, splitting the larger run around its median
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] src, dst;
+        private final int aLo, aHi, bLo, bHi, k, threshold;
+
+        MergeTask(int[] src, int aLo, int aHi, int bLo, int bHi, int[] dst, int k, int threshold) {
+            this.src = src;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.dst = dst;
+            this.k = k;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int aLen = aHi - aLo, bLen = bHi - bLo;
+            if(aLen + bLen <= threshold) {
+                mergeInto(src, aLo, aHi, src, bLo, bHi, dst, k);
+                return;
+            }
+            // equal keys from the left run go first, which keeps the merge stable
+            int aMid, bMid;
+            if(aLen >= bLen) {
+                aMid = (aLo + aHi) >>> 1;
+                bMid = boundary(src, bLo, bHi, src[aMid], true);
+            } else {
+                bMid = (bLo + bHi) >>> 1;
+                aMid = boundary(src, aLo, aHi, src[bMid], false);
+            }
+            int split = k + (aMid - aLo) + (bMid - bLo);
+            invokeAll(new MergeTask(src, aLo, aMid, bLo, bMid, dst, k, threshold),
+                      new MergeTask(src, aMid, aHi, bMid, bHi, dst, split, threshold));
+        }
+    }
+
+    // arrays shorter than this are sorted by binary insertion sort alone
+    private static final int MIN_MERGE = 32;
+    // a run has to win this many times in a row before a merge starts galloping
+    private static final int MIN_GALLOP = 7;
+
+    // adaptive merge sort of the whole array
+    public static void adaptiveMergeSort(int[] arr) {
+        adaptiveMergeSort(arr, 0, arr.length);
+    }
+
+    // adaptive merge sort of arr[lo, hi)
+    public static void adaptiveMergeSort(int[] arr, int lo, int hi) {
+        int remaining = hi - lo;
+        if(remaining < 2) {
+            return;
+        }
+        if(remaining < MIN_MERGE) {
+            int runLen = countRunAndMakeAscending(arr, lo, hi);
+            binaryInsertionSort(arr, lo, hi, lo + runLen);
+            return;
+        }
+        RunStack runs = new RunStack(arr);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLen = countRunAndMakeAscending(arr, lo, hi);
+            // extend a short run to minRun elements
+            if(runLen < minRun) {
+                int force = Math.min(remaining, minRun);
+                binaryInsertionSort(arr, lo, lo + force, lo + runLen);
+                runLen = force;
+            }
+            runs.push(lo, runLen);
+            runs.mergeCollapse();
+            lo += runLen;
+            remaining -= runLen;
+        } while(remaining != 0);
+        runs.mergeForceCollapse();
+    }
+
+    // length of the run starting at lo; a strictly descending run is reversed in place
+    private static int countRunAndMakeAscending(int[] arr, int lo, int hi) {
+        int runHi = lo + 1;
+        if(runHi == hi) {
+            return 1;
+        }
+        if(arr[runHi++] < arr[lo]) {
+            while(runHi < hi && arr[runHi] < arr[runHi - 1]) {
+                runHi++;
+            }
+            for(int i=lo, j=runHi-1; i<j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        } else {
+            while(runHi < hi && arr[runHi] >= arr[runHi - 1]) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    // sorts arr[lo, hi) when arr[lo, start) is already sorted
+    private static void binaryInsertionSort(int[] arr, int lo, int hi, int start) {
+        if(start == lo) {
+            start++;
+        }
+        for(; start<hi; start++) {
+            int pivot = arr[start];
+            int left = lo, right = start;
+            while(left < right) {
+                int mid = (left + right) >>> 1;
+                if(pivot < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = pivot;
+        }
+    }
+
+    // minimum run length so that n / minRun is a power of two or just below one
+    private static int minRunLength(int n) {
+        int r = 0;
+        while(n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    // offset k in a[base, base+len) with a[base+k-1] < key <= a[base+k], searched outward from hint
+    private static int gallopLeft(int key, int[] a, int base, int len, int hint) {
+        int lastOfs = 0, ofs = 1;
+        if(key > a[base + hint]) {
+            int maxOfs = len - hint;
+            while(ofs < maxOfs && key > a[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if(ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            ofs = Math.min(ofs, maxOfs);
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            int maxOfs = hint + 1;
+            while(ofs < maxOfs && key <= a[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if(ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            ofs = Math.min(ofs, maxOfs);
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        }
+        // binary search in (lastOfs, ofs]
+        lastOfs++;
+        while(lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if(key > a[base + m]) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    // offset k in a[base, base+len) with a[base+k-1] <= key < a[base+k], searched outward from hint
+    private static int gallopRight(int key, int[] a, int base, int len, int hint) {
+        int lastOfs = 0, ofs = 1;
+        if(key < a[base + hint]) {
+            int maxOfs = hint + 1;
+            while(ofs < maxOfs && key < a[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if(ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            ofs = Math.min(ofs, maxOfs);
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        } else {
+            int maxOfs = len - hint;
+            while(ofs < maxOfs && key >= a[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if(ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            ofs = Math.min(ofs, maxOfs);
+            lastOfs += hint;
+            ofs += hint;
+        }
+        lastOfs++;
+        while(lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if(key < a[base + m]) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    // pending runs of adaptiveMergeSort plus the scratch buffer shared by all its merges
+    private static final class RunStack {
+        private final int[] a;
+        // enough for any int-sized array while the length invariants hold
+        private final int[] runBase = new int[49];
+        private final int[] runLen = new int[49];
+        private int stackSize = 0;
+        private int minGallop = MIN_GALLOP;
+        private int[] tmp = new int[256];
+
+        RunStack(int[] a) {
+            this.a = a;
+        }
+
+        void push(int base, int len) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = len;
+            stackSize++;
+        }
+
+        // merge until runLen[i-2] > runLen[i-1] + runLen[i] and runLen[i-1] > runLen[i] hold on the stack
+        void mergeCollapse() {
+            while(stackSize > 1) {
+                int n = stackSize - 2;
+                if(n > 0 && runLen[n-1] <= runLen[n] + runLen[n+1]
+                        || n > 1 && runLen[n-2] <= runLen[n] + runLen[n-1]) {
+                    if(runLen[n-1] < runLen[n+1]) {
+                        n--;
+                    }
+                } else if(runLen[n] > runLen[n+1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        // merge everything that is left into one run
+        void mergeForceCollapse() {
+            while(stackSize > 1) {
+                int n = stackSize - 2;
+                if(n > 0 && runLen[n-1] < runLen[n+1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        // merge runs i and i+1 of the stack
+        private void mergeAt(int i) {
+            int base1 = runBase[i], len1 = runLen[i];
+            int base2 = runBase[i+1], len2 = runLen[i+1];
+            runLen[i] = len1 + len2;
+            if(i == stackSize - 3) {
+                runBase[i+1] = runBase[i+2];
+                runLen[i+1] = runLen[i+2];
+            }
+            stackSize--;
+
+            // elements of run1 already below run2 and of run2 already above run1 stay where they are
+            int k = gallopRight(a[base2], a, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if(len1 == 0) {
+                return;
+            }
+            len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+            if(len2 == 0) {
+                return;
+            }
+            if(len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        // merge left to right, the shorter first run is copied into tmp
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            int[] a = this.a;
+            int[] tmp = ensureCapacity(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+            int cursor1 = 0, cursor2 = base2, dest = base1;
+
+            a[dest++] = a[cursor2++];
+            if(--len2 == 0) {
+                System.arraycopy(tmp, cursor1, a, dest, len1);
+                return;
+            }
+            if(len1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, len2);
+                a[dest + len2] = tmp[cursor1];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while(true) {
+                int count1 = 0, count2 = 0;
+                // one element at a time until a run wins minGallop times in a row
+                do {
+                    if(a[cursor2] < tmp[cursor1]) {
+                        a[dest++] = a[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if(--len2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest++] = tmp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if(--len1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while((count1 | count2) < minGallop);
+
+                // galloping: copy whole stretches found by exponential search
+                do {
+                    count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+                    if(count1 != 0) {
+                        System.arraycopy(tmp, cursor1, a, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        len1 -= count1;
+                        if(len1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = a[cursor2++];
+                    if(--len2 == 0) {
+                        break outer;
+                    }
+                    count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+                    if(count2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        len2 -= count2;
+                        if(len2 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = tmp[cursor1++];
+                    if(--len1 == 1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if(minGallop < 0) {
+                    minGallop = 0;
+                }
+                // leaving gallop mode costs a little more next time
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(1, minGallop);
+
+            if(len1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, len2);
+                a[dest + len2] = tmp[cursor1];
+            } else {
+                System.arraycopy(tmp, cursor1, a, dest, len1);
+            }
+        }
+
+        // merge right to left, the shorter second run is copied into tmp
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            int[] a = this.a;
+            int[] tmp = ensureCapacity(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+            int cursor1 = base1 + len1 - 1, cursor2 = len2 - 1, dest = base2 + len2 - 1;
+
+            a[dest--] = a[cursor1--];
+            if(--len1 == 0) {
+                System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+                return;
+            }
+            if(len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+                a[dest] = tmp[cursor2];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while(true) {
+                int count1 = 0, count2 = 0;
+                do {
+                    if(tmp[cursor2] < a[cursor1]) {
+                        a[dest--] = a[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if(--len1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest--] = tmp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if(--len2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while((count1 | count2) < minGallop);
+
+                do {
+                    count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+                    if(count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        len1 -= count1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                        if(len1 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = tmp[cursor2--];
+                    if(--len2 == 1) {
+                        break outer;
+                    }
+                    count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+                    if(count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        len2 -= count2;
+                        System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                        if(len2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = a[cursor1--];
+                    if(--len1 == 0) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if(minGallop < 0) {
+                    minGallop = 0;
+                }
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(1, minGallop);
+
+            if(len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+                a[dest] = tmp[cursor2];
+            } else {
+                System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            }
+        }
+
+        // grow the scratch buffer geometrically, never past half of the array
+        private int[] ensureCapacity(int minCapacity) {
+            if(tmp.length < minCapacity) {
+                int newSize = Integer.highestOneBit(minCapacity) << 1;
+                if(newSize < 0 || newSize > (a.length >>> 1)) {
+                    newSize = Math.max(minCapacity, a.length >>> 1);
+                }
+                tmp = new int[newSize];
+            }
+            return tmp;
+        }
+    }
+
     public static void main(String[] args) {
         // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
 
@@ -91,6 +711,33 @@ public class MargeSort {
             System.out.print(i + " ");
         }
 
+        int[] big = new java.util.Random(42).ints(1_000_000).toArray();
+        parallelMergeSort(big);
+        boolean sorted = true;
+        for (int i = 1; i < big.length; i++) {
+            if (big[i-1] > big[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        System.out.println("\nParallel MargeSort of " + big.length + " ints sorted: " + sorted);
+
+        // timestamps appended in order with a little jitter
+        int[] nearlySorted = new int[1_000_000];
+        java.util.Random jitter = new java.util.Random(7);
+        for (int i = 0; i < nearlySorted.length; i++) {
+            nearlySorted[i] = i * 10 + jitter.nextInt(25);
+        }
+        adaptiveMergeSort(nearlySorted);
+        sorted = true;
+        for (int i = 1; i < nearlySorted.length; i++) {
+            if (nearlySorted[i-1] > nearlySorted[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        System.out.println("Adaptive MargeSort of nearly sorted input sorted: " + sorted);
+
     }
 }
 /************************************************************
@@ -9,7 +9,27 @@ package com.algovault.algo.sorting;
  *                   a pivot and sorting the partitions, a method that's
  *                   faster than simple algorithms like bubble sort or
  *                   insertion sort for large datasets.
- * 🧠 Complexity   : O(n²)
+ *                  Introsort mode:
+ *                  introSort picks the pivot with median-of-three (ninther
+ *                  on large ranges), finishes small ranges with insertion
+ *                  sort, loops on the larger side instead of recursing and
+ *                  switches to heapsort once depth passes 2*log2(n).
+ *                  With SIMD enabled (see SimdSort) the partition step and
+ *                  the base case run on vector kernels instead.
+ *                  Duplicate-heavy inputs:
+ *                  threeWayQuickSort (Bentley-McIlroy) gathers keys equal to
+ *                  the pivot into the middle so they are never revisited.
+ *                  dualPivotQuickSort (Yaroslavskiy) splits around two
+ *                  pivots into three parts, squeezing keys equal to either
+ *                  pivot out of the middle part when it grows too large.
+ *                  Selection:
+ *                  select finds the k-th smallest with quickselect on the
+ *                  same partition step and switches to median-of-medians
+ *                  pivots when the ranges stop shrinking (introselect).
+ *                  partialSort uses select and then sorts only the first k.
+ * 🧠 Complexity   : O(n²) for quickSort, O(n log n) worst case for introSort,
+ *                  O(n) for threeWayQuickSort when all keys are equal,
+ *                  O(n) worst case for select, O(n + k log k) for partialSort
  *
  * 🧑‍💻 Crafted With Logic & Love by Masum | 05-Aug-2025
  ************************************************************/
@@ -36,6 +56,352 @@ public class QuickSort {
         return i+1;
     }
 
+    // ranges of this size or less are finished with insertion sort
+    private static final int INSERTION_CUTOFF = 24;
+    // introSort base case, larger when the SIMD sorting network is available
+    private static final int BASE_CASE_CUTOFF = SimdSort.ENABLED ? SimdSort.BASE_CASE_SIZE : INSERTION_CUTOFF;
+    // ranges above this size pick the pivot with Tukey's ninther
+    private static final int NINTHER_THRESHOLD = 128;
+
+    // introsort of the whole array
+    public void introSort(int arr[]) {
+        introSort(arr, 0, arr.length - 1);
+    }
+
+    // introsort of arr[low..high], bounds inclusive like quickSort
+    public void introSort(int arr[], int low, int high) {
+        if(low<high) {
+            int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+            introSortImpl(arr, low, high, depthLimit, true);
+        }
+    }
+
+    // when leftmost is false, arr[low-1] is an earlier pivot that is <= every key in the range
+    private void introSortImpl(int arr[], int low, int high, int depthLimit, boolean leftmost) {
+        while(high-low+1 > BASE_CASE_CUTOFF) {
+            if(depthLimit == 0) {
+                // too many bad pivots, fall back to guaranteed O(n log n)
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            int p;
+            if(SimdSort.ENABLED) {
+                int pivotIndex = choosePivot(arr, low, high);
+                int pivot = arr[pivotIndex];
+                swap(arr, low, pivotIndex);
+                if(!leftmost && arr[low-1] == pivot) {
+                    // the pivot equals the lower bound: every key <= pivot is equal to it, so skip them all
+                    low = SimdSort.partition(arr, low+1, high+1, pivot, true);
+                    continue;
+                }
+                p = SimdSort.partition(arr, low+1, high+1, pivot, false) - 1;
+                swap(arr, low, p);
+            } else {
+                p = hoarePartition(arr, low, high, choosePivot(arr, low, high));
+            }
+            // recurse into the smaller side, keep looping on the larger one
+            if(p-low < high-p) {
+                introSortImpl(arr, low, p-1, depthLimit, leftmost);
+                low = p+1;
+                leftmost = false;
+            } else {
+                introSortImpl(arr, p+1, high, depthLimit, false);
+                high = p-1;
+            }
+        }
+        if(SimdSort.ENABLED) {
+            SimdSort.sortSmall(arr, low, high+1);
+        } else {
+            insertionSort(arr, low, high);
+        }
+    }
+
+    // index of the pivot: median of three, or ninther for large ranges
+    private int choosePivot(int arr[], int low, int high) {
+        int mid = low + (high-low)/2;
+        if(high-low+1 > NINTHER_THRESHOLD) {
+            int step = (high-low+1) / 8;
+            int a = medianOfThree(arr, low, low+step, low+2*step);
+            int b = medianOfThree(arr, mid-step, mid, mid+step);
+            int c = medianOfThree(arr, high-2*step, high-step, high);
+            return medianOfThree(arr, a, b, c);
+        }
+        return medianOfThree(arr, low, mid, high);
+    }
+
+    private int medianOfThree(int arr[], int i, int j, int k) {
+        if(arr[i] < arr[j]) {
+            return arr[j] < arr[k] ? j : (arr[i] < arr[k] ? k : i);
+        }
+        return arr[i] < arr[k] ? i : (arr[j] < arr[k] ? k : j);
+    }
+
+    // partition arr[low..high] around arr[pivotIndex], returns its final position.
+    // both scans stop on keys equal to the pivot, so runs of duplicates split evenly
+    private int hoarePartition(int arr[], int low, int high, int pivotIndex) {
+        swap(arr, low, pivotIndex);
+        int pivot = arr[low];
+        int i = low, j = high+1;
+        while(true) {
+            while(arr[++i] < pivot) {
+                if(i == high) {
+                    break;
+                }
+            }
+            while(pivot < arr[--j]) {
+                // arr[low] is the pivot, so this scan stops there at the latest
+            }
+            if(i >= j) {
+                break;
+            }
+            swap(arr, i, j);
+        }
+        swap(arr, low, j);
+        return j;
+    }
+
+    // three-way quicksort of arr[low..high], bounds inclusive
+    public void threeWayQuickSort(int arr[], int low, int high) {
+        while(high-low+1 > INSERTION_CUTOFF) {
+            swap(arr, low, choosePivot(arr, low, high));
+            int pivot = arr[low];
+            // keys equal to the pivot are parked at arr[low..p] and arr[q..high] while scanning
+            int i = low, j = high+1;
+            int p = low, q = high+1;
+            while(true) {
+                while(arr[++i] < pivot) {
+                    if(i == high) {
+                        break;
+                    }
+                }
+                while(pivot < arr[--j]) {
+                    if(j == low) {
+                        break;
+                    }
+                }
+                if(i == j && arr[i] == pivot) {
+                    swap(arr, ++p, i);
+                }
+                if(i >= j) {
+                    break;
+                }
+                swap(arr, i, j);
+                if(arr[i] == pivot) {
+                    swap(arr, ++p, i);
+                }
+                if(arr[j] == pivot) {
+                    swap(arr, --q, j);
+                }
+            }
+            // swap the parked equal keys into the middle
+            i = j+1;
+            for(int k=low; k<=p; k++) {
+                swap(arr, k, j--);
+            }
+            for(int k=high; k>=q; k--) {
+                swap(arr, k, i++);
+            }
+            // now arr[low..j] < pivot, arr[j+1..i-1] == pivot, arr[i..high] > pivot
+            if(j-low < high-i) {
+                threeWayQuickSort(arr, low, j);
+                low = i;
+            } else {
+                threeWayQuickSort(arr, i, high);
+                high = j;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    // dual-pivot quicksort of arr[low..high], bounds inclusive
+    public void dualPivotQuickSort(int arr[], int low, int high) {
+        while(high-low+1 > INSERTION_CUTOFF) {
+            // take the pivots from the tertiles, smaller one to the left end
+            int third = (high-low+1) / 3;
+            swap(arr, low, low+third);
+            swap(arr, high, high-third);
+            if(arr[low] > arr[high]) {
+                swap(arr, low, high);
+            }
+            int p = arr[low], q = arr[high];
+
+            int lt = low+1, gt = high-1, k = lt;
+            while(k <= gt) {
+                if(arr[k] < p) {
+                    swap(arr, k++, lt++);
+                } else if(arr[k] > q) {
+                    while(arr[gt] > q && k < gt) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if(arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                    k++;
+                } else {
+                    k++;
+                }
+            }
+            swap(arr, low, --lt);
+            swap(arr, high, ++gt);
+            // now arr[low..lt-1] < p, arr[lt+1..gt-1] in [p, q], arr[gt+1..high] > q
+
+            int midLow = lt+1, midHigh = gt-1;
+            if(p == q) {
+                // every middle key equals both pivots, nothing left to sort there
+                midLow = gt;
+                midHigh = gt-1;
+            } else if(midHigh-midLow+1 > (high-low+1) * 2 / 3) {
+                // large middle part: move keys equal to the pivots out of it
+                while(arr[midLow] == p) {
+                    midLow++;
+                }
+                while(arr[midHigh] == q) {
+                    midHigh--;
+                }
+                for(k=midLow; k<=midHigh; k++) {
+                    if(arr[k] == p) {
+                        swap(arr, k, midLow++);
+                    } else if(arr[k] == q) {
+                        while(arr[midHigh] == q && k < midHigh) {
+                            midHigh--;
+                        }
+                        swap(arr, k, midHigh--);
+                        if(arr[k] == p) {
+                            swap(arr, k, midLow++);
+                        }
+                    }
+                }
+            }
+
+            // recurse into the two smaller parts, keep looping on the largest
+            int leftSize = lt-low, midSize = midHigh-midLow+1, rightSize = high-gt;
+            if(leftSize >= midSize && leftSize >= rightSize) {
+                dualPivotQuickSort(arr, midLow, midHigh);
+                dualPivotQuickSort(arr, gt+1, high);
+                high = lt-1;
+            } else if(midSize >= rightSize) {
+                dualPivotQuickSort(arr, low, lt-1);
+                dualPivotQuickSort(arr, gt+1, high);
+                low = midLow;
+                high = midHigh;
+            } else {
+                dualPivotQuickSort(arr, low, lt-1);
+                dualPivotQuickSort(arr, midLow, midHigh);
+                low = gt+1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    // k-th smallest element (0-based). Afterwards arr[k] holds it, with smaller
+    // or equal keys before it and greater or equal keys after it
+    public int select(int arr[], int k) {
+        if(k<0 || k>=arr.length) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        selectImpl(arr, 0, arr.length-1, k, depthLimit);
+        return arr[k];
+    }
+
+    // moves the k smallest elements, in ascending order, to arr[0..k-1]
+    public void partialSort(int arr[], int k) {
+        if(k<0 || k>arr.length) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        if(k == 0) {
+            return;
+        }
+        select(arr, k-1);
+        introSort(arr, 0, k-1);
+    }
+
+    // narrows arr[low..high] around position k; depthLimit 0 means median-of-medians pivots only
+    private void selectImpl(int arr[], int low, int high, int k, int depthLimit) {
+        while(high > low) {
+            if(high-low+1 <= INSERTION_CUTOFF) {
+                insertionSort(arr, low, high);
+                return;
+            }
+            int pivotIndex;
+            if(depthLimit > 0) {
+                pivotIndex = choosePivot(arr, low, high);
+                depthLimit--;
+            } else {
+                // guaranteed 30/70 split keeps the whole selection linear
+                pivotIndex = medianOfMedians(arr, low, high);
+            }
+            int p = hoarePartition(arr, low, high, pivotIndex);
+            if(k == p) {
+                return;
+            } else if(k < p) {
+                high = p-1;
+            } else {
+                low = p+1;
+            }
+        }
+    }
+
+    // index of the median of the medians of groups of five
+    private int medianOfMedians(int arr[], int low, int high) {
+        int numMedians = 0;
+        for(int i=low; i<=high; i+=5) {
+            int groupHigh = Math.min(i+4, high);
+            insertionSort(arr, i, groupHigh);
+            // gather the group medians at the front of the range
+            swap(arr, low+numMedians, i + (groupHigh-i)/2);
+            numMedians++;
+        }
+        int mid = low + (numMedians-1)/2;
+        selectImpl(arr, low, low+numMedians-1, mid, 0);
+        return mid;
+    }
+
+    private void insertionSort(int arr[], int low, int high) {
+        for(int i=low+1; i<=high; i++) {
+            int key = arr[i];
+            int j = i-1;
+            while(j>=low && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    // in-place heapsort of arr[low..high]
+    private void heapSort(int arr[], int low, int high) {
+        int n = high-low+1;
+        for(int i=n/2-1; i>=0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for(int end=n-1; end>0; end--) {
+            swap(arr, low, low+end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private void siftDown(int arr[], int base, int i, int n) {
+        int value = arr[base+i];
+        while(true) {
+            int child = 2*i+1;
+            if(child >= n) {
+                break;
+            }
+            if(child+1 < n && arr[base+child+1] > arr[base+child]) {
+                child++;
+            }
+            if(arr[base+child] <= value) {
+                break;
+            }
+            arr[base+i] = arr[base+child];
+            i = child;
+        }
+        arr[base+i] = value;
+    }
+
     private void swap(int arr[], int i, int j) {
         int temp = arr[i];
         arr[i] = arr[j];
@@ -58,6 +424,26 @@ public class QuickSort {
             System.out.print(num + " ");
         }
 
+        int[] sortedInput = new int[1_000_000];
+        for (int i = 0; i < sortedInput.length; i++) {
+            sortedInput[i] = sortedInput.length - i;
+        }
+        sorter.introSort(sortedInput);
+        System.out.print("\nIntroSort on 1M reverse-sorted ints, first/last: "
+                + sortedInput[0] + " " + sortedInput[sortedInput.length - 1]);
+
+        int[] fewDistinct = new java.util.Random(7).ints(1_000_000, 0, 300).toArray();
+        int[] fewDistinctCopy = fewDistinct.clone();
+        sorter.threeWayQuickSort(fewDistinct, 0, fewDistinct.length - 1);
+        sorter.dualPivotQuickSort(fewDistinctCopy, 0, fewDistinctCopy.length - 1);
+        System.out.print("\nThree-way and dual-pivot agree on 300 distinct keys: "
+                + java.util.Arrays.equals(fewDistinct, fewDistinctCopy));
+
+        int[] values = { 42, 7, 19, 3, 88, 51, 23, 64, 5, 30 };
+        System.out.print("\nMedian (select k=4): " + sorter.select(values, 4));
+        sorter.partialSort(values, 3);
+        System.out.print("\nThree smallest (partialSort k=3): " + values[0] + " " + values[1] + " " + values[2]);
+
     }
 }
 /************************************************************
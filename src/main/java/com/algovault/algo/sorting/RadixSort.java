@@ -0,0 +1,299 @@
+package com.algovault.algo.sorting;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/************************************************************
+ * 🔰 CLASS: RadixSort
+ * ----------------------------------------------------------
+ * 📌 Description : Implementation of LSD (least significant digit)
+ *                  RadixSort for int[] and long[]
+ * 🛠️  Purpose     : Sorts fixed-width integer keys without comparing
+ *                  them. Every pass distributes the keys by one byte,
+ *                  from the lowest byte to the highest, into a single
+ *                  auxiliary buffer and back.
+ *                  1. count how often each byte value occurs (histogram)
+ *                  2. turn the counts into start offsets (prefix sum)
+ *                  3. copy every key to its offset, which keeps the pass stable
+ *                  Passes where every key has the same byte are skipped, and
+ *                  the sign bit is flipped in the top byte so negative keys
+ *                  come before positive ones.
+ *                  parallelSort splits the array into chunks, counts each
+ *                  chunk on its own core and scatters the chunks in parallel
+ *                  using per-chunk offsets.
+ * 🧠 Complexity   : O(w * n) for w-byte keys, O(n) extra space
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class RadixSort {
+    private static final int RADIX = 256;
+    // arrays this small are faster with insertion sort
+    private static final int INSERTION_CUTOFF = 64;
+    // arrays below this size are not worth splitting across cores
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    // sort an int array
+    public void sort(int[] arr) {
+        int n = arr.length;
+        if(n <= INSERTION_CUTOFF) {
+            insertionSort(arr);
+            return;
+        }
+        // one read pass builds the histograms of all four bytes
+        int[][] counts = new int[4][RADIX];
+        for(int v : arr) {
+            counts[0][v & 0xFF]++;
+            counts[1][(v >>> 8) & 0xFF]++;
+            counts[2][(v >>> 16) & 0xFF]++;
+            counts[3][(v >>> 24) ^ 0x80]++;
+        }
+        int[] src = arr, dst = new int[n];
+        for(int pass=0; pass<4; pass++) {
+            int[] count = counts[pass];
+            if(isSharedDigit(count, n)) {
+                continue;
+            }
+            int shift = pass * 8;
+            int flip = pass == 3 ? 0x80 : 0;
+            toOffsets(count);
+            for(int v : src) {
+                dst[count[((v >>> shift) & 0xFF) ^ flip]++] = v;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if(src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // sort a long array
+    public void sort(long[] arr) {
+        int n = arr.length;
+        if(n <= INSERTION_CUTOFF) {
+            insertionSort(arr);
+            return;
+        }
+        int[][] counts = new int[8][RADIX];
+        for(long v : arr) {
+            for(int pass=0; pass<8; pass++) {
+                counts[pass][digit(v, pass)]++;
+            }
+        }
+        long[] src = arr, dst = new long[n];
+        for(int pass=0; pass<8; pass++) {
+            int[] count = counts[pass];
+            if(isSharedDigit(count, n)) {
+                continue;
+            }
+            toOffsets(count);
+            for(long v : src) {
+                dst[count[digit(v, pass)]++] = v;
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if(src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // sort an int array, counting and scattering chunks on the common pool
+    public void parallelSort(int[] arr) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if(chunks == 1) {
+            sort(arr);
+            return;
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][RADIX];
+        int[] src = arr, dst = new int[n];
+        for(int pass=0; pass<4; pass++) {
+            int shift = pass * 8;
+            int flip = pass == 3 ? 0x80 : 0;
+            int[] from = src;
+            runChunks(chunks, c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                for(int i=c*chunkSize, end=Math.min(n, i+chunkSize); i<end; i++) {
+                    count[((from[i] >>> shift) & 0xFF) ^ flip]++;
+                }
+            });
+            if(!toChunkOffsets(counts, n)) {
+                continue;
+            }
+            int[] to = dst;
+            runChunks(chunks, c -> {
+                int[] offset = counts[c];
+                for(int i=c*chunkSize, end=Math.min(n, i+chunkSize); i<end; i++) {
+                    int v = from[i];
+                    to[offset[((v >>> shift) & 0xFF) ^ flip]++] = v;
+                }
+            });
+            src = to;
+            dst = from;
+        }
+        if(src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // sort a long array, counting and scattering chunks on the common pool
+    public void parallelSort(long[] arr) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if(chunks == 1) {
+            sort(arr);
+            return;
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][RADIX];
+        long[] src = arr, dst = new long[n];
+        for(int pass=0; pass<8; pass++) {
+            int digitPass = pass;
+            long[] from = src;
+            runChunks(chunks, c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                for(int i=c*chunkSize, end=Math.min(n, i+chunkSize); i<end; i++) {
+                    count[digit(from[i], digitPass)]++;
+                }
+            });
+            if(!toChunkOffsets(counts, n)) {
+                continue;
+            }
+            long[] to = dst;
+            runChunks(chunks, c -> {
+                int[] offset = counts[c];
+                for(int i=c*chunkSize, end=Math.min(n, i+chunkSize); i<end; i++) {
+                    long v = from[i];
+                    to[offset[digit(v, digitPass)]++] = v;
+                }
+            });
+            src = to;
+            dst = from;
+        }
+        if(src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // byte number pass of a long key, sign bit flipped in the top byte
+    private static int digit(long v, int pass) {
+        int d = (int) (v >>> (pass * 8)) & 0xFF;
+        return pass == 7 ? d ^ 0x80 : d;
+    }
+
+    // true when one bucket holds every key, so the pass would not move anything
+    private static boolean isSharedDigit(int[] count, int n) {
+        for(int c : count) {
+            if(c != 0) {
+                return c == n;
+            }
+        }
+        return false;
+    }
+
+    // replace counts with exclusive prefix sums (start offset of every bucket)
+    private static void toOffsets(int[] count) {
+        int sum = 0;
+        for(int b=0; b<RADIX; b++) {
+            int c = count[b];
+            count[b] = sum;
+            sum += c;
+        }
+    }
+
+    // turn per-chunk counts into per-chunk start offsets, bucket by bucket then chunk by chunk.
+    // returns false when the pass can be skipped because all keys share the digit
+    private static boolean toChunkOffsets(int[][] counts, int n) {
+        int sum = 0;
+        for(int b=0; b<RADIX; b++) {
+            int bucketStart = sum;
+            for(int[] count : counts) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            if(sum - bucketStart == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunkCount(int n) {
+        if(n < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        return Math.max(1, Math.min(parallelism * 4, n / (PARALLEL_THRESHOLD / 4)));
+    }
+
+    private static void runChunks(int chunks, IntConsumer body) {
+        IntStream.range(0, chunks).parallel().forEach(body);
+    }
+
+    private static void insertionSort(int[] arr) {
+        for(int i=1; i<arr.length; i++) {
+            int key = arr[i];
+            int j = i-1;
+            while(j>=0 && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    private static void insertionSort(long[] arr) {
+        for(int i=1; i<arr.length; i++) {
+            long key = arr[i];
+            int j = i-1;
+            while(j>=0 && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int[] arr = {170, -45, 75, -90, 802, 24, 2, 66};
+        System.out.print("Before RadixSort: ");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+
+        RadixSort sorter = new RadixSort();
+        sorter.sort(arr);
+        System.out.print("\nAfter RadixSort: ");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+
+        long[] big = new java.util.Random(42).longs(2_000_000).toArray();
+        sorter.parallelSort(big);
+        boolean sorted = true;
+        for (int i = 1; i < big.length; i++) {
+            if (big[i-1] > big[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        System.out.println("\nParallel RadixSort of " + big.length + " longs sorted: " + sorted);
+    }
+}
+/************************************************************
+ * 🔚 End of RadixSort.java
+ * 📣 Built for mastering radix sort operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,125 @@
+package com.algovault.algo.sorting;
+
+/************************************************************
+ * 🔰 CLASS: SimdSort
+ * ----------------------------------------------------------
+ * 📌 Description : Entry point for the SIMD sorting kernels with a
+ *                  scalar fallback
+ * 🛠️  Purpose     : QuickSort and MargeSort call sortSmall for their base
+ *                  cases and partition for large ranges. When the JVM runs
+ *                  with --add-modules jdk.incubator.vector and the CPU has
+ *                  256-bit int vectors, the calls go to VectorSortKernels;
+ *                  otherwise they run the scalar code below and the vector
+ *                  classes are never loaded.
+ *                  -Dalgovault.simd=false forces the scalar path, which is
+ *                  handy for comparing the two.
+ * 🧠 Complexity   : sortSmall - O(n²) scalar, O(log² n) vector steps
+ *                  partition - O(n)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class SimdSort {
+    // largest block sortSmall accepts
+    public static final int SMALL_SORT_MAX = 64;
+    // base case size for callers: above 32 the network gains little over insertion sort
+    public static final int BASE_CASE_SIZE = 32;
+    // smallest range partition accepts (two vectors)
+    public static final int PARTITION_MIN = 16;
+    public static final boolean ENABLED = detectVectorSupport();
+
+    private static boolean detectVectorSupport() {
+        if(!Boolean.parseBoolean(System.getProperty("algovault.simd", "true"))) {
+            return false;
+        }
+        if(ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return jdk.incubator.vector.IntVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+        } catch(LinkageError e) {
+            return false;
+        }
+    }
+
+    // sort arr[lo, hi), at most SMALL_SORT_MAX elements
+    public static void sortSmall(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        if(n < 2) {
+            return;
+        }
+        if(n > SMALL_SORT_MAX) {
+            throw new IllegalArgumentException("Block is larger than " + SMALL_SORT_MAX + " elements.");
+        }
+        if(ENABLED) {
+            VectorSortKernels.sortSmall(arr, lo, hi);
+            return;
+        }
+        for(int i=lo+1; i<hi; i++) {
+            int key = arr[i];
+            int j = i-1;
+            while(j>=lo && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    // partition arr[lo, hi) so keys < pivot (or <= pivot when orEqual) come first.
+    // returns the index of the first key of the right part
+    public static int partition(int[] arr, int lo, int hi, int pivot, boolean orEqual) {
+        if(ENABLED && hi - lo >= PARTITION_MIN) {
+            return VectorSortKernels.partition(arr, lo, hi, pivot, orEqual);
+        }
+        int left = lo;
+        for(int i=lo; i<hi; i++) {
+            int x = arr[i];
+            if(orEqual ? x <= pivot : x < pivot) {
+                arr[i] = arr[left];
+                arr[left++] = x;
+            }
+        }
+        return left;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+        // run with and without --add-modules jdk.incubator.vector (or -Dalgovault.simd=false) to compare
+
+        System.out.println("SIMD kernels enabled: " + ENABLED);
+        java.util.Random random = new java.util.Random(42);
+        int[] data = random.ints(1 << 22).toArray();
+        QuickSort quickSort = new QuickSort();
+
+        // first pass warms up the JIT, second pass is reported
+        for (int block : new int[] { 8, 16, 32, 64, 8, 16, 32, 64 }) {
+            int[] work = data.clone();
+            long start = System.nanoTime();
+            for (int round = 0; round < 5; round++) {
+                System.arraycopy(data, 0, work, 0, data.length);
+                for (int lo = 0; lo + block <= work.length; lo += block) {
+                    sortSmall(work, lo, lo + block);
+                }
+            }
+            double nsPerElement = (System.nanoTime() - start) / 5.0 / work.length;
+            System.out.printf("sortSmall blocks of %2d: %.2f ns/element%n", block, nsPerElement);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            int[] work = random.ints(10_000_000).toArray();
+            long start = System.nanoTime();
+            quickSort.introSort(work);
+            System.out.printf("introSort 10M ints: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+            int[] other = random.ints(10_000_000).toArray();
+            start = System.nanoTime();
+            MargeSort.parallelMergeSort(other);
+            System.out.printf("parallelMergeSort 10M ints: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of SimdSort.java
+ * 📣 Built for mastering SIMD sorting kernels stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,235 @@
+package com.algovault.algo.sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/************************************************************
+ * 🔰 CLASS: Sorter
+ * ----------------------------------------------------------
+ * 📌 Description : Sorting facade that samples the input and picks
+ *                  the fastest sorter in this package
+ * 🛠️  Purpose     : Callers ask for "sort this" instead of choosing a
+ *                  sorter by hand. A fixed number of samples is taken:
+ *                  - presortedness: descents inside evenly spaced windows
+ *                  - duplicate ratio: distinct keys among evenly spaced picks
+ *                  - value range: min and max of those picks
+ *                  Decision order:
+ *                  1. tiny arrays               -> insertion sort
+ *                  2. mostly ascending/descending -> MargeSort.adaptiveMergeSort
+ *                  3. narrow value range, large -> counting sort
+ *                  4. narrow value range or many duplicates
+ *                                               -> QuickSort.threeWayQuickSort
+ *                  5. wide keys, huge arrays, several cores
+ *                                               -> RadixSort.parallelSort
+ *                  6. wide keys, large arrays   -> RadixSort.sort
+ *                  7. everything else           -> QuickSort.introSort
+ *                  Counting sort re-checks the exact range in its first
+ *                  pass and falls back to radix if the sample missed an
+ *                  outlier; the reported strategy is the one that ran.
+ *                  Every decision can be reported to an optional listener
+ *                  together with the sampled numbers and the time taken.
+ * 🧠 Complexity   : O(1) sampling on top of the chosen sorter
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class Sorter {
+    public enum Strategy { INSERTION, ADAPTIVE_MERGE, COUNTING, THREE_WAY_QUICK, PARALLEL_RADIX, RADIX, INTROSORT }
+
+    // what the sampler saw and what was done about it
+    public record SortStats(int size, double descentRatio, double duplicateRatio,
+                            int sampleMin, int sampleMax, Strategy strategy, long elapsedNanos) {
+    }
+
+    public static final int INSERTION_MAX = 48;
+    public static final int RADIX_THRESHOLD = 1 << 14;
+    public static final int PARALLEL_THRESHOLD = 1 << 22;
+    // widest value range counted directly, 2^16 counters stay in L2
+    public static final int COUNTING_MAX_RANGE = 1 << 16;
+    // sampled adjacent pairs that are descents, below LOW or above HIGH counts as presorted
+    private static final double PRESORTED_LOW = 0.10;
+    private static final double PRESORTED_HIGH = 0.90;
+    private static final double DUPLICATE_HEAVY = 0.5;
+    private static final int WINDOWS = 32;
+    private static final int WINDOW_SIZE = 32;
+    private static final int DISTINCT_SAMPLES = 1024;
+
+    private final Consumer<SortStats> statsListener;
+    private final QuickSort quickSort = new QuickSort();
+    private final RadixSort radixSort = new RadixSort();
+
+    public Sorter() {
+        this(null);
+    }
+
+    // statsListener is called after every sort, null to skip reporting
+    public Sorter(Consumer<SortStats> statsListener) {
+        this.statsListener = statsListener;
+    }
+
+    public void sort(int[] arr) {
+        long start = System.nanoTime();
+        int n = arr.length;
+        double descentRatio = 0, duplicateRatio = 0;
+        int sampleMin = 0, sampleMax = 0;
+        Strategy strategy;
+
+        if(n <= INSERTION_MAX) {
+            strategy = Strategy.INSERTION;
+        } else {
+            descentRatio = sampleDescentRatio(arr);
+            int[] picks = samplePicks(arr);
+            quickSort.introSort(picks);
+            sampleMin = picks[0];
+            sampleMax = picks[picks.length - 1];
+            duplicateRatio = 1.0 - (double) countDistinct(picks) / picks.length;
+            strategy = choose(n, descentRatio, duplicateRatio, sampleMin, sampleMax);
+        }
+
+        if(strategy == Strategy.COUNTING && !countingSort(arr)) {
+            strategy = Strategy.RADIX;
+        }
+        switch(strategy) {
+            case INSERTION -> insertionSort(arr);
+            case COUNTING -> { } // already sorted above
+            case ADAPTIVE_MERGE -> MargeSort.adaptiveMergeSort(arr);
+            case THREE_WAY_QUICK -> quickSort.threeWayQuickSort(arr, 0, n - 1);
+            case PARALLEL_RADIX -> radixSort.parallelSort(arr);
+            case RADIX -> radixSort.sort(arr);
+            case INTROSORT -> quickSort.introSort(arr);
+        }
+
+        if(statsListener != null) {
+            statsListener.accept(new SortStats(n, descentRatio, duplicateRatio, sampleMin, sampleMax,
+                    strategy, System.nanoTime() - start));
+        }
+    }
+
+    private static Strategy choose(int n, double descentRatio, double duplicateRatio, int sampleMin, int sampleMax) {
+        if(descentRatio < PRESORTED_LOW || descentRatio > PRESORTED_HIGH) {
+            return Strategy.ADAPTIVE_MERGE;
+        }
+        long range = (long) sampleMax - sampleMin + 1;
+        // at most one counter per element, so the counts never outweigh the data
+        if(n >= RADIX_THRESHOLD && range <= Math.min(n, COUNTING_MAX_RANGE)) {
+            return Strategy.COUNTING;
+        }
+        if(range <= n / 2 || duplicateRatio >= DUPLICATE_HEAVY) {
+            return Strategy.THREE_WAY_QUICK;
+        }
+        if(n >= PARALLEL_THRESHOLD && ForkJoinPool.commonPool().getParallelism() > 1) {
+            return Strategy.PARALLEL_RADIX;
+        }
+        if(n >= RADIX_THRESHOLD) {
+            return Strategy.RADIX;
+        }
+        return Strategy.INTROSORT;
+    }
+
+    // fraction of descents among adjacent pairs in evenly spaced windows
+    private static double sampleDescentRatio(int[] arr) {
+        int n = arr.length;
+        int windows = Math.min(WINDOWS, n / WINDOW_SIZE);
+        int size = Math.min(WINDOW_SIZE, n);
+        int descents = 0, pairs = 0;
+        for(int w=0; w<windows; w++) {
+            int start = (int) ((long) w * (n - size) / Math.max(1, windows - 1));
+            for(int i=start+1; i<start+size; i++) {
+                if(arr[i] < arr[i-1]) {
+                    descents++;
+                }
+                pairs++;
+            }
+        }
+        return pairs == 0 ? 0 : (double) descents / pairs;
+    }
+
+    // evenly spaced picks for the duplicate ratio and value range
+    private static int[] samplePicks(int[] arr) {
+        int count = Math.min(DISTINCT_SAMPLES, arr.length);
+        int[] picks = new int[count];
+        for(int i=0; i<count; i++) {
+            picks[i] = arr[(int) ((long) i * arr.length / count)];
+        }
+        return picks;
+    }
+
+    // counting sort over the exact [min, max], false (arr untouched) if that range is too wide
+    private static boolean countingSort(int[] arr) {
+        int min = arr[0], max = arr[0];
+        for(int v : arr) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        long range = (long) max - min + 1;
+        if(range > Math.min(arr.length, COUNTING_MAX_RANGE)) {
+            return false;
+        }
+        int[] count = new int[(int) range];
+        for(int v : arr) {
+            count[v - min]++;
+        }
+        int k = 0;
+        for(int d=0; d<count.length; d++) {
+            for(int c=count[d]; c>0; c--) {
+                arr[k++] = min + d;
+            }
+        }
+        return true;
+    }
+
+    private static int countDistinct(int[] sorted) {
+        int distinct = sorted.length == 0 ? 0 : 1;
+        for(int i=1; i<sorted.length; i++) {
+            if(sorted[i] != sorted[i-1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private static void insertionSort(int[] arr) {
+        for(int i=1; i<arr.length; i++) {
+            int key = arr[i];
+            int j = i-1;
+            while(j>=0 && arr[j]>key) {
+                arr[j+1] = arr[j];
+                j--;
+            }
+            arr[j+1] = key;
+        }
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        Sorter sorter = new Sorter(stats -> System.out.printf(
+                "n=%d descents=%.2f duplicates=%.2f range=[%d, %d] -> %s in %.2f ms%n",
+                stats.size(), stats.descentRatio(), stats.duplicateRatio(), stats.sampleMin(),
+                stats.sampleMax(), stats.strategy(), stats.elapsedNanos() / 1e6));
+        java.util.Random random = new java.util.Random(42);
+
+        sorter.sort(new int[] { 5, 3, 9, 1, 7 });
+
+        int[] timestamps = new int[1_000_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = i * 10 + random.nextInt(15);
+        }
+        sorter.sort(timestamps);
+
+        sorter.sort(random.ints(1_000_000, 0, 300).toArray());
+        sorter.sort(random.ints(1_000_000, -20_000, 20_000).toArray());
+        sorter.sort(random.ints(20_000, 0, 5_000).toArray());
+        // narrow sample, but one outlier: counting sort hands over to radix
+        int[] outlier = random.ints(1_000_000, 0, 1_000).toArray();
+        outlier[12_345] = Integer.MAX_VALUE;
+        sorter.sort(outlier);
+        sorter.sort(random.ints(1_000_000).toArray());
+        sorter.sort(random.ints(5_000).toArray());
+    }
+}
+/************************************************************
+ * 🔚 End of Sorter.java
+ * 📣 Built for mastering sort strategy selection stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,384 @@
+package com.algovault.algo.sorting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+/************************************************************
+ * 🔰 CLASS: StringSort
+ * ----------------------------------------------------------
+ * 📌 Description : String sorting with MSD radix sort and 3-way
+ *                  string quicksort (Bentley-Sedgewick)
+ * 🛠️  Purpose     : Comparison sorts compare long shared prefixes (URLs,
+ *                  paths) over and over. Both sorters here look at one
+ *                  character position d at a time, so every character of a
+ *                  shared prefix is examined only a few times.
+ *                  msdSort (byte[] keys):
+ *                  counts the byte at position d, distributes the keys into
+ *                  256 buckets (+1 for "key ended") and recurses into each
+ *                  bucket at d+1.
+ *                  threeWayQuickSort (byte[], char[] or String keys):
+ *                  partitions on the character at d into <, == and >, and
+ *                  only the == part moves on to d+1.
+ *                  When every key of a range shares character d, the common
+ *                  prefix of the range is measured in one pass and skipped.
+ *                  Small ranges are finished with insertion sort starting
+ *                  at position d. byte[] keys compare as unsigned bytes,
+ *                  char[] and String keys in the same order as String.compareTo.
+ * 🧠 Complexity   : about N log N + total length of distinguishing prefixes
+ *                  character inspections
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class StringSort {
+    private static final int RADIX = 256;
+    // ranges of this size or less are finished with insertion sort
+    private static final int INSERTION_CUTOFF = 15;
+
+    // MSD radix sort of byte[] keys
+    public void msdSort(byte[][] keys) {
+        byte[][] aux = new byte[keys.length][];
+        msdSort(keys, aux, 0, keys.length - 1, 0);
+    }
+
+    private void msdSort(byte[][] keys, byte[][] aux, int lo, int hi, int d) {
+        if(hi <= lo + INSERTION_CUTOFF) {
+            insertionSort(keys, lo, hi, d);
+            return;
+        }
+        // count[b + 2] counts byte b, count[1] counts keys that end before d
+        int[] count = new int[RADIX + 2];
+        for(int i=lo; i<=hi; i++) {
+            count[charAt(keys[i], d) + 2]++;
+        }
+        int first = charAt(keys[lo], d);
+        if(count[first + 2] == hi - lo + 1) {
+            // one bucket holds every key: nothing to move, skip the common prefix instead
+            if(first >= 0) {
+                msdSort(keys, aux, lo, hi, commonPrefix(keys, lo, hi, d + 1));
+            }
+            return;
+        }
+        for(int r=0; r<RADIX+1; r++) {
+            count[r+1] += count[r];
+        }
+        for(int i=lo; i<=hi; i++) {
+            aux[count[charAt(keys[i], d) + 1]++] = keys[i];
+        }
+        System.arraycopy(aux, 0, keys, lo, hi - lo + 1);
+        // keys that ended are done, recurse into each byte bucket
+        for(int r=0; r<RADIX; r++) {
+            if(count[r+1] - count[r] > 1) {
+                msdSort(keys, aux, lo + count[r], lo + count[r+1] - 1, d + 1);
+            }
+        }
+    }
+
+    // 3-way string quicksort of byte[] keys
+    public void threeWayQuickSort(byte[][] keys) {
+        threeWayQuickSort(keys, 0, keys.length - 1, 0);
+    }
+
+    private void threeWayQuickSort(byte[][] keys, int lo, int hi, int d) {
+        while(hi > lo + INSERTION_CUTOFF) {
+            swap(keys, lo, medianOfThree(charAt(keys[lo], d), charAt(keys[lo + (hi-lo)/2], d),
+                    charAt(keys[hi], d), lo, lo + (hi-lo)/2, hi));
+            int v = charAt(keys[lo], d);
+            int lt = lo, gt = hi, i = lo + 1;
+            while(i <= gt) {
+                int t = charAt(keys[i], d);
+                if(t < v) {
+                    swap(keys, lt++, i++);
+                } else if(t > v) {
+                    swap(keys, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // keys[lo..lt-1] < v, keys[lt..gt] == v, keys[gt+1..hi] > v at position d
+            threeWayQuickSort(keys, lo, lt - 1, d);
+            threeWayQuickSort(keys, gt + 1, hi, d);
+            if(v < 0) {
+                // the middle keys all ended at d, they are equal
+                return;
+            }
+            if(lt == lo && gt == hi) {
+                // every key shares character d, skip the whole common prefix in one pass
+                d = commonPrefix(keys, lo, hi, d + 1);
+                continue;
+            }
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+        insertionSort(keys, lo, hi, d);
+    }
+
+    // 3-way string quicksort of char[] keys
+    public void threeWayQuickSort(char[][] keys) {
+        threeWayQuickSort(keys, 0, keys.length - 1, 0);
+    }
+
+    private void threeWayQuickSort(char[][] keys, int lo, int hi, int d) {
+        while(hi > lo + INSERTION_CUTOFF) {
+            swap(keys, lo, medianOfThree(charAt(keys[lo], d), charAt(keys[lo + (hi-lo)/2], d),
+                    charAt(keys[hi], d), lo, lo + (hi-lo)/2, hi));
+            int v = charAt(keys[lo], d);
+            int lt = lo, gt = hi, i = lo + 1;
+            while(i <= gt) {
+                int t = charAt(keys[i], d);
+                if(t < v) {
+                    swap(keys, lt++, i++);
+                } else if(t > v) {
+                    swap(keys, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            threeWayQuickSort(keys, lo, lt - 1, d);
+            threeWayQuickSort(keys, gt + 1, hi, d);
+            if(v < 0) {
+                return;
+            }
+            if(lt == lo && gt == hi) {
+                // every key shares character d, skip the whole common prefix in one pass
+                d = commonPrefix(keys, lo, hi, d + 1);
+                continue;
+            }
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+        insertionSort(keys, lo, hi, d);
+    }
+
+    // 3-way string quicksort of Strings, same order as String.compareTo
+    public void threeWayQuickSort(String[] keys) {
+        threeWayQuickSort(keys, 0, keys.length - 1, 0);
+    }
+
+    private void threeWayQuickSort(String[] keys, int lo, int hi, int d) {
+        while(hi > lo + INSERTION_CUTOFF) {
+            swap(keys, lo, medianOfThree(charAt(keys[lo], d), charAt(keys[lo + (hi-lo)/2], d),
+                    charAt(keys[hi], d), lo, lo + (hi-lo)/2, hi));
+            int v = charAt(keys[lo], d);
+            int lt = lo, gt = hi, i = lo + 1;
+            while(i <= gt) {
+                int t = charAt(keys[i], d);
+                if(t < v) {
+                    swap(keys, lt++, i++);
+                } else if(t > v) {
+                    swap(keys, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            threeWayQuickSort(keys, lo, lt - 1, d);
+            threeWayQuickSort(keys, gt + 1, hi, d);
+            if(v < 0) {
+                return;
+            }
+            if(lt == lo && gt == hi) {
+                // every key shares character d, skip the whole common prefix in one pass
+                d = commonPrefix(keys, lo, hi, d + 1);
+                continue;
+            }
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+        insertionSort(keys, lo, hi, d);
+    }
+
+    // sort a list in place, like Collections.sort
+    public void sort(List<String> list) {
+        String[] keys = list.toArray(new String[0]);
+        threeWayQuickSort(keys);
+        ListIterator<String> it = list.listIterator();
+        for(String key : keys) {
+            it.next();
+            it.set(key);
+        }
+    }
+
+    // character d of a key, -1 once the key has ended
+    private static int charAt(byte[] key, int d) {
+        return d < key.length ? key[d] & 0xFF : -1;
+    }
+
+    private static int charAt(char[] key, int d) {
+        return d < key.length ? key[d] : -1;
+    }
+
+    private static int charAt(String key, int d) {
+        return d < key.length() ? key.charAt(d) : -1;
+    }
+
+    // length of the common prefix of keys[lo..hi], which already share their first d characters
+    private static int commonPrefix(byte[][] keys, int lo, int hi, int d) {
+        byte[] first = keys[lo];
+        int prefix = first.length;
+        for(int i=lo+1; i<=hi && prefix>d; i++) {
+            byte[] key = keys[i];
+            int end = Math.min(prefix, key.length);
+            int m = Arrays.mismatch(first, d, end, key, d, end);
+            prefix = m < 0 ? end : d + m;
+        }
+        return Math.max(prefix, d);
+    }
+
+    private static int commonPrefix(char[][] keys, int lo, int hi, int d) {
+        char[] first = keys[lo];
+        int prefix = first.length;
+        for(int i=lo+1; i<=hi && prefix>d; i++) {
+            char[] key = keys[i];
+            int end = Math.min(prefix, key.length);
+            int m = Arrays.mismatch(first, d, end, key, d, end);
+            prefix = m < 0 ? end : d + m;
+        }
+        return Math.max(prefix, d);
+    }
+
+    private static int commonPrefix(String[] keys, int lo, int hi, int d) {
+        String first = keys[lo];
+        int prefix = first.length();
+        for(int i=lo+1; i<=hi && prefix>d; i++) {
+            String key = keys[i];
+            int end = Math.min(prefix, key.length());
+            int m = d;
+            while(m < end && key.charAt(m) == first.charAt(m)) {
+                m++;
+            }
+            prefix = m;
+        }
+        return Math.max(prefix, d);
+    }
+
+    // index of the median of three characters
+    private static int medianOfThree(int a, int b, int c, int ia, int ib, int ic) {
+        if(a < b) {
+            return b < c ? ib : (a < c ? ic : ia);
+        }
+        return a < c ? ia : (b < c ? ic : ib);
+    }
+
+    // insertion sort of keys[lo..hi], which all share their first d characters
+    private static void insertionSort(byte[][] keys, int lo, int hi, int d) {
+        for(int i=lo+1; i<=hi; i++) {
+            byte[] key = keys[i];
+            int j = i - 1;
+            while(j >= lo && compareFrom(keys[j], key, d) > 0) {
+                keys[j+1] = keys[j];
+                j--;
+            }
+            keys[j+1] = key;
+        }
+    }
+
+    private static void insertionSort(char[][] keys, int lo, int hi, int d) {
+        for(int i=lo+1; i<=hi; i++) {
+            char[] key = keys[i];
+            int j = i - 1;
+            while(j >= lo && compareFrom(keys[j], key, d) > 0) {
+                keys[j+1] = keys[j];
+                j--;
+            }
+            keys[j+1] = key;
+        }
+    }
+
+    private static void insertionSort(String[] keys, int lo, int hi, int d) {
+        for(int i=lo+1; i<=hi; i++) {
+            String key = keys[i];
+            int j = i - 1;
+            while(j >= lo && compareFrom(keys[j], key, d) > 0) {
+                keys[j+1] = keys[j];
+                j--;
+            }
+            keys[j+1] = key;
+        }
+    }
+
+    private static int compareFrom(byte[] a, byte[] b, int d) {
+        int n = Math.min(a.length, b.length);
+        for(int i=d; i<n; i++) {
+            int diff = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    private static int compareFrom(char[] a, char[] b, int d) {
+        int n = Math.min(a.length, b.length);
+        for(int i=d; i<n; i++) {
+            int diff = a[i] - b[i];
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    private static int compareFrom(String a, String b, int d) {
+        int n = Math.min(a.length(), b.length());
+        for(int i=d; i<n; i++) {
+            int diff = a.charAt(i) - b.charAt(i);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    private static <T> void swap(T[] keys, int i, int j) {
+        T temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        String[] paths = {
+            "/var/log/nginx/access.log", "/var/log/app/error.log", "/home/masum/notes.txt",
+            "/var/log/nginx/error.log", "/etc/hosts", "/home/masum/algovault/README.md"
+        };
+        StringSort sorter = new StringSort();
+        sorter.threeWayQuickSort(paths);
+        System.out.println("3-way string quicksort: ");
+        for (String path : paths) {
+            System.out.println("  " + path);
+        }
+
+        // URL-like keys with long shared prefixes
+        java.util.Random random = new java.util.Random(42);
+        int n = 500_000;
+        String[] urls = new String[n];
+        byte[][] urlBytes = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            urls[i] = "https://example.com/api/v2/customers/" + random.nextInt(100_000) + "/orders/" + random.nextInt(1000);
+            urlBytes[i] = urls[i].getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        }
+        java.util.List<String> list = new java.util.ArrayList<>(java.util.Arrays.asList(urls));
+        String[] copy = urls.clone();
+
+        long start = System.nanoTime();
+        java.util.Collections.sort(list);
+        System.out.printf("Collections.sort:        %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        start = System.nanoTime();
+        sorter.threeWayQuickSort(copy);
+        System.out.printf("3-way string quicksort:  %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        start = System.nanoTime();
+        sorter.msdSort(urlBytes);
+        System.out.printf("MSD radix sort (bytes):  %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        System.out.println("Same order as Collections.sort: " + list.equals(java.util.Arrays.asList(copy)));
+    }
+}
+/************************************************************
+ * 🔚 End of StringSort.java
+ * 📣 Built for mastering string sort operations stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
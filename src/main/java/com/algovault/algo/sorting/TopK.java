@@ -0,0 +1,135 @@
+package com.algovault.algo.sorting;
+
+/************************************************************
+ * 🔰 CLASS: TopK
+ * ----------------------------------------------------------
+ * 📌 Description : Streaming Top-K using a bounded min-heap of ints
+ * 🛠️  Purpose     : Keeps the k largest values seen so far while data
+ *                  arrives in chunks, without storing the whole stream.
+ *                  The root of the min-heap is the smallest of the current
+ *                  top k, so a new value only enters when it beats the root.
+ *                  The heap is a plain int[], nothing is boxed.
+ * 🧠 Complexity   : Offer - O(log k), Result - O(k log k), Space - O(k)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class TopK {
+    private final int[] heap;
+    private int size;
+
+    public TopK(int k) {
+        if(k <= 0) {
+            throw new IllegalArgumentException("k must be positive.");
+        }
+        heap = new int[k];
+        size = 0;
+    }
+
+    // offer a single value
+    public void offer(int value) {
+        if(size < heap.length) {
+            // sift up the new leaf
+            int i = size++;
+            while(i > 0) {
+                int parent = (i-1) >>> 1;
+                if(heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        } else if(value > heap[0]) {
+            siftDown(value);
+        }
+    }
+
+    // offer a whole chunk
+    public void offer(int[] chunk) {
+        offer(chunk, 0, chunk.length);
+    }
+
+    // offer chunk[from, to)
+    public void offer(int[] chunk, int from, int to) {
+        if(from<0 || to>chunk.length || from>to) {
+            throw new IndexOutOfBoundsException("Invalid range.");
+        }
+        int i = from;
+        // fill the heap first, then only values above the current minimum need work
+        while(i < to && size < heap.length) {
+            offer(chunk[i++]);
+        }
+        for(; i<to; i++) {
+            if(chunk[i] > heap[0]) {
+                siftDown(chunk[i]);
+            }
+        }
+    }
+
+    // number of values currently kept (at most k)
+    public int size() {
+        return size;
+    }
+
+    // smallest of the kept values, the bar a new value has to beat once full
+    public int peekMin() {
+        if(size == 0) {
+            throw new IllegalStateException("TopK is empty.");
+        }
+        return heap[0];
+    }
+
+    // the kept values, largest first
+    public int[] result() {
+        int[] out = new int[size];
+        System.arraycopy(heap, 0, out, 0, size);
+        new QuickSort().introSort(out);
+        for(int i=0; i<size/2; i++) {
+            int temp = out[i];
+            out[i] = out[size-1-i];
+            out[size-1-i] = temp;
+        }
+        return out;
+    }
+
+    // replace the root with value and restore the heap
+    private void siftDown(int value) {
+        int i = 0;
+        while(true) {
+            int child = 2*i+1;
+            if(child >= size) {
+                break;
+            }
+            if(child+1 < size && heap[child+1] < heap[child]) {
+                child++;
+            }
+            if(heap[child] >= value) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        TopK top = new TopK(5);
+        java.util.Random random = new java.util.Random(42);
+        // ten chunks of 100k values arriving one after another
+        for (int chunk = 0; chunk < 10; chunk++) {
+            top.offer(random.ints(100_000, 0, 1_000_000).toArray());
+        }
+        System.out.print("Top 5 of 1M values: ");
+        for (int value : top.result()) {
+            System.out.print(value + " ");
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of TopK.java
+ * 📣 Built for mastering heap based top-k selection stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,181 @@
+package com.algovault.algo.sorting;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/************************************************************
+ * 🔰 CLASS: VectorSortKernels
+ * ----------------------------------------------------------
+ * 📌 Description : SIMD sorting kernels on 8-lane int vectors
+ *                  (jdk.incubator.vector, 256-bit, AVX2 class)
+ * 🛠️  Purpose     : Only reached through SimdSort, which checks that the
+ *                  incubator module is enabled before this class is loaded.
+ *                  sortSmall - bitonic sorting network for 2..64 ints. The
+ *                  block is padded with Integer.MAX_VALUE to 8, 16, 32 or
+ *                  64 ints. Compare-exchange steps between lanes of one
+ *                  vector use a shuffle + min/max + blend, steps between
+ *                  vectors are plain lane-wise min/max.
+ *                  partition - in-place partition: the first and last
+ *                  vector are held back, every other vector is compared to
+ *                  the pivot and compressed into the left and right write
+ *                  positions, always reading from the side with less room.
+ * 🧠 Complexity   : sortSmall - O(log² n) vector steps, partition - O(n / 8)
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+class VectorSortKernels {
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+    static final int LANES = 8;
+    static final int MAX_BLOCK = 64;
+
+    // lane i paired with lane i ^ j
+    private static final VectorShuffle<Integer> PARTNER_1 = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+    private static final VectorShuffle<Integer> PARTNER_2 = VectorShuffle.fromOp(SPECIES, i -> i ^ 2);
+    private static final VectorShuffle<Integer> PARTNER_4 = VectorShuffle.fromOp(SPECIES, i -> i ^ 4);
+    // lanes holding the upper element of each pair, they take the max in an ascending block
+    private static final VectorMask<Integer> UPPER_1 = lanes(i -> (i & 1) != 0);
+    private static final VectorMask<Integer> UPPER_2 = lanes(i -> (i & 2) != 0);
+    private static final VectorMask<Integer> UPPER_4 = lanes(i -> (i & 4) != 0);
+    // blocks of 2 and 4 lanes alternate direction inside one vector
+    private static final VectorMask<Integer> K2_J1 = lanes(i -> ((i & 1) != 0) != ((i & 2) != 0));
+    private static final VectorMask<Integer> K4_J2 = lanes(i -> ((i & 2) != 0) != ((i & 4) != 0));
+    private static final VectorMask<Integer> K4_J1 = lanes(i -> ((i & 1) != 0) != ((i & 4) != 0));
+
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[MAX_BLOCK]);
+
+    private VectorSortKernels() {
+    }
+
+    private static VectorMask<Integer> lanes(IntPredicate takesMax) {
+        boolean[] bits = new boolean[LANES];
+        for(int i=0; i<LANES; i++) {
+            bits[i] = takesMax.test(i);
+        }
+        return VectorMask.fromArray(SPECIES, bits, 0);
+    }
+
+    // sort arr[lo, hi), 2 <= hi - lo <= 64
+    static void sortSmall(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        int size = Math.max(LANES, Integer.highestOneBit(n - 1) << 1);
+        int[] block = SCRATCH.get();
+        System.arraycopy(arr, lo, block, 0, n);
+        Arrays.fill(block, n, size, Integer.MAX_VALUE);
+
+        // stage k = 2 and 4 live inside single vectors, and stage 8 up to its j = 4 step as well
+        for(int off=0; off<size; off+=LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, block, off);
+            v = exchange(v, PARTNER_1, K2_J1);
+            v = exchange(v, PARTNER_2, K4_J2);
+            v = exchange(v, PARTNER_1, K4_J1);
+            boolean descending = (off & LANES) != 0;
+            v = inVectorSteps(v, descending);
+            v.intoArray(block, off);
+        }
+        for(int k=2*LANES; k<=size; k<<=1) {
+            // compare-exchange between whole vectors for j = k/2 .. 8
+            for(int j=k>>1; j>=LANES; j>>=1) {
+                for(int a=0; a<size; a+=LANES) {
+                    int b = a ^ j;
+                    if(b < a) {
+                        continue;
+                    }
+                    IntVector va = IntVector.fromArray(SPECIES, block, a);
+                    IntVector vb = IntVector.fromArray(SPECIES, block, b);
+                    IntVector min = va.min(vb), max = va.max(vb);
+                    boolean descending = (a & k) != 0;
+                    (descending ? max : min).intoArray(block, a);
+                    (descending ? min : max).intoArray(block, b);
+                }
+            }
+            // j = 4, 2, 1 inside each vector
+            for(int off=0; off<size; off+=LANES) {
+                IntVector v = IntVector.fromArray(SPECIES, block, off);
+                v = inVectorSteps(v, (off & k) != 0);
+                v.intoArray(block, off);
+            }
+        }
+        System.arraycopy(block, 0, arr, lo, n);
+    }
+
+    // the j = 4, 2, 1 steps of a bitonic merge for a vector sorted in one direction
+    private static IntVector inVectorSteps(IntVector v, boolean descending) {
+        if(descending) {
+            v = exchange(v, PARTNER_4, UPPER_4.not());
+            v = exchange(v, PARTNER_2, UPPER_2.not());
+            return exchange(v, PARTNER_1, UPPER_1.not());
+        }
+        v = exchange(v, PARTNER_4, UPPER_4);
+        v = exchange(v, PARTNER_2, UPPER_2);
+        return exchange(v, PARTNER_1, UPPER_1);
+    }
+
+    private static IntVector exchange(IntVector v, VectorShuffle<Integer> partner, VectorMask<Integer> takesMax) {
+        IntVector p = v.rearrange(partner);
+        return v.min(p).blend(v.max(p), takesMax);
+    }
+
+    // partition arr[lo, hi) so keys < pivot (or <= pivot when orEqual) come first,
+    // returns the index of the first key of the right part. needs hi - lo >= 16
+    static int partition(int[] arr, int lo, int hi, int pivot, boolean orEqual) {
+        VectorOperators.Comparison goesLeft = orEqual ? VectorOperators.LE : VectorOperators.LT;
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        // held back so both ends have one vector of room to write into
+        IntVector first = IntVector.fromArray(SPECIES, arr, lo);
+        IntVector last = IntVector.fromArray(SPECIES, arr, hi - LANES);
+        int left = lo, right = hi;
+        int readLeft = lo + LANES, readRight = hi - LANES;
+
+        // odd elements first, while each side still has a full vector of room
+        int rest = (readRight - readLeft) % LANES;
+        for(int end=readLeft+rest; readLeft<end; ) {
+            int x = arr[readLeft++];
+            if(orEqual ? x <= pivot : x < pivot) {
+                arr[left++] = x;
+            } else {
+                arr[--right] = x;
+            }
+        }
+
+        while(readLeft < readRight) {
+            IntVector v;
+            if(readLeft - left <= right - readRight) {
+                v = IntVector.fromArray(SPECIES, arr, readLeft);
+                readLeft += LANES;
+            } else {
+                readRight -= LANES;
+                v = IntVector.fromArray(SPECIES, arr, readRight);
+            }
+            VectorMask<Integer> toLeft = v.compare(goesLeft, pivots);
+            int count = toLeft.trueCount();
+            // a full store is fine here, the lanes past count land in free space
+            v.compress(toLeft).intoArray(arr, left);
+            left += count;
+            right -= LANES - count;
+            v.compress(toLeft.not()).intoArray(arr, right, SPECIES.indexInRange(0, LANES - count));
+        }
+        // exactly two vectors of room are left between left and right for the held-back ends
+        for(int end=0; end<2; end++) {
+            IntVector v = end == 0 ? first : last;
+            VectorMask<Integer> toLeft = v.compare(goesLeft, pivots);
+            int count = toLeft.trueCount();
+            v.compress(toLeft).intoArray(arr, left);
+            left += count;
+            right -= LANES - count;
+            v.compress(toLeft.not()).intoArray(arr, right, SPECIES.indexInRange(0, LANES - count));
+        }
+        return left;
+    }
+}
+/************************************************************
+ * 🔚 End of VectorSortKernels.java
+ * 📣 Built for mastering SIMD sorting kernels stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
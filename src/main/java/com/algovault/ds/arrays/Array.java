@@ -1,6 +1,13 @@
 package com.algovault.ds.arrays;
 
+import com.algovault.algo.sorting.SimdSort;
+
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
 
 /************************************************************
  * 🔰 CLASS: Array
@@ -8,15 +15,40 @@ import java.util.Arrays;
  * 📌 Description : Implementation of Queue using Linked List
  * 📦 Features    : Add, Insert, Delete, Search, Traverse, Sort,
  *                  Reverse, Max, Min, binarySearch,recursiveBinarySearch,
- *                  bubbleSort, quickSort
+ *                  bubbleSort, quickSort, addAll, removeIf, retainAll,
+ *                  replaceAll, stats, histogram
+ * 🛠️  Purpose     : stats() returns count, min, max, sum, mean and variance
+ *                  from one read of the data, so a dashboard refresh costs one
+ *                  trip through memory. Ranges are reduced with 8-lane
+ *                  vectors when SimdSort.ENABLED (VectorArrayKernels), else
+ *                  with a scalar loop; above PARALLEL_THRESHOLD the range is
+ *                  halved across a ForkJoinPool and the partial results are
+ *                  combined with the pairwise update of Chan et al.
+ *                  histogram counts equal-width buckets the same way, one
+ *                  count array per task merged at the end (scatter, scalar).
  * 🧠 Complexity  : O(1) for append, O(n) for insert/delete/
  *                  search, O(log n) for binarySearch, O(n^2) for bubblesort,
- *                  O(n^2) for quickSort
+ *                  O(n^2) for quickSort, O(n) for bulk operations (one pass,
+ *                  at most one resize), O(n / p) for stats and histogram
  *
  * 🧑‍💻 Crafted With Logic & Love by Masum | 06-Aug-2025
  ************************************************************/
 
 public class Array {
+    // below this many elements stats/histogram stay on the calling thread
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    // result of stats(), variance is the population variance
+    public record Stats(int count, int min, int max, long sum, double mean, double variance) {
+        public double standardDeviation() {
+            return Math.sqrt(variance);
+        }
+    }
+
+    // stats() reduces in calls of this many elements: a JIT deoptimization then only
+    // costs one chunk, instead of a whole 100M-element pass in slow profiled code
+    private static final int REDUCE_CHUNK = 1 << 16;
+
     private int[] arr;
     private int size;
 
@@ -31,6 +63,13 @@ public class Array {
         arr = Arrays.copyOf(arr, newCapacity);
     }
 
+    // Helper: grow once so that needed elements fit
+    private void ensureCapacity(int needed) {
+        if(needed > arr.length) {
+            resize(Math.max(arr.length*2, needed));
+        }
+    }
+
     // Add element at the end (like append)
     public void add(int data) {
         if(size == arr.length) {
@@ -52,9 +91,7 @@ public class Array {
         if(size == arr.length) {
             resize(arr.length * 2);
         }
-        for(int i=size-1; i>=pos; i--) {
-            arr[i+1] = arr[i];
-        }
+        System.arraycopy(arr, pos, arr, pos+1, size-pos);
         arr[pos] = data;
         size++;
     }
@@ -64,20 +101,16 @@ public class Array {
         if(pos<0 || pos>size) {
             throw new IndexOutOfBoundsException("Invalid index.");
         }
-        int needResize = size+data.length;
-        if(needResize>arr.length) {
-            resize(Math.max(arr.length*2, needResize));
-        }
+        ensureCapacity(size+data.length);
+        // shift existing elements right to make space, then copy the new data in
+        System.arraycopy(arr, pos, arr, pos+data.length, size-pos);
+        System.arraycopy(data, 0, arr, pos, data.length);
+        size += data.length;
+    }
 
-        // shift existing elements right to make space
-        for(int i=size-1; i>=pos; i--) {
-            arr[i+data.length] = arr[i];
-        }
-        // insert new data
-        for(int i=0; i<data.length; i++) {
-            arr[pos+i] = data[i];
-        }
-        size = needResize;
+    // Append all elements with one capacity check and one copy
+    public void addAll(int[] data) {
+        insertMultiple(size, data);
     }
 
     // Helper: shrink array size if too empty
@@ -87,6 +120,13 @@ public class Array {
         }
     }
 
+    // Helper: one shrink decision after a bulk removal
+    private void shrinkAfterBulk() {
+        if(size>0 && size <= arr.length/4) {
+            resize(size*2);
+        }
+    }
+
     // delete from end
     public void deleteEnd() {
         if(size==0) {
@@ -108,9 +148,7 @@ public class Array {
             throw new IndexOutOfBoundsException("Invalid index");
         }
 
-        for(int i=pos; i<size-1; i++) {
-            arr[i] = arr[i+1];
-        }
+        System.arraycopy(arr, pos+1, arr, pos, size-pos-1);
         size--;
         arr[size]=0;
         shrinkIfNeeded();
@@ -133,20 +171,59 @@ public class Array {
 
     // delete all occurrences of position
     public int deleteAllOccurrences(int data) {
-        int count =0;
-        for(int i=0;i<size;) {
-            if(arr[i] == data) {
-                delete(i);
-                count++;
-            } else {
-                i++;
+        return removeIf(value -> value == data);
+    }
+
+    // remove every element matching the filter in one compaction pass, returns how many.
+    // The filter sees every element before anything moves, so if it throws the array is unchanged
+    public int removeIf(IntPredicate filter) {
+        BitSet doomed = new BitSet(size);
+        for(int i=0;i<size;i++) {
+            if(filter.test(arr[i])) {
+                doomed.set(i);
+            }
+        }
+        int removed = doomed.cardinality();
+        if(removed == 0) {
+            return 0;
+        }
+        // move each run of kept elements down with one arraycopy
+        int write = doomed.nextSetBit(0);
+        int keepFrom = doomed.nextClearBit(write);
+        while(keepFrom < size) {
+            int keepTo = doomed.nextSetBit(keepFrom);
+            if(keepTo < 0) {
+                keepTo = size;
             }
+            System.arraycopy(arr, keepFrom, arr, write, keepTo - keepFrom);
+            write += keepTo - keepFrom;
+            keepFrom = doomed.nextClearBit(keepTo);
+        }
+        Arrays.fill(arr, write, size, 0);
+        size = write;
+        shrinkAfterBulk();
+        return removed;
+    }
+
+    // keep only elements that occur in values, returns how many were removed
+    public int retainAll(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return removeIf(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    // apply the operator to every element in place
+    public void replaceAll(IntUnaryOperator operator) {
+        for(int i=0;i<size;i++) {
+            arr[i] = operator.applyAsInt(arr[i]);
         }
-        return count;
     }
 
-    // search for element - linear search
+    // search for element - linear search, 8 lanes at a time when SIMD is on
     public boolean search(int data) {
+        if(SimdSort.ENABLED) {
+            return VectorArrayKernels.indexOf(arr, 0, size, data) >= 0;
+        }
         for(int i=0;i<size; i++) {
             if(arr[i]==data) {
                 return true;
@@ -309,6 +386,184 @@ public class Array {
         return Arrays.copyOf(arr, size);
     }
 
+    // count, min, max, sum, mean and variance in one pass
+    public Stats stats() {
+        return stats(ForkJoinPool.commonPool());
+    }
+
+    public Stats stats(ForkJoinPool pool) {
+        if(size == 0) {
+            throw new IllegalStateException("Array is empty.");
+        }
+        Moments m = size < PARALLEL_THRESHOLD || pool.getParallelism() == 1
+                ? reduce(arr, 0, size)
+                : pool.invoke(new StatsTask(arr, 0, size));
+        return new Stats(size, m.min, m.max, m.sum, (double) m.sum / size, m.m2 / size);
+    }
+
+    public long sum() {
+        return size == 0 ? 0 : stats().sum();
+    }
+
+    // counts of [low, high] in buckets of width ceil((high - low + 1) / buckets), values outside are skipped
+    public long[] histogram(int low, int high, int buckets) {
+        return histogram(low, high, buckets, ForkJoinPool.commonPool());
+    }
+
+    public long[] histogram(int low, int high, int buckets, ForkJoinPool pool) {
+        if(buckets < 1 || low > high) {
+            throw new IllegalArgumentException("Invalid histogram range.");
+        }
+        long width = ((long) high - low + buckets) / buckets;
+        if(size < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            long[] counts = new long[buckets];
+            countBuckets(arr, 0, size, low, high, width, counts);
+            return counts;
+        }
+        return pool.invoke(new HistogramTask(arr, 0, size, low, high, width, buckets));
+    }
+
+    // running count, min, max, sum and sum of squared deviations from the mean (m2) of a range
+    static final class Moments {
+        long count;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        long sum;
+        double m2;
+
+        // from a range whose squares were taken around shift
+        void set(long count, int min, int max, long sum, int shift, double shiftedSquares) {
+            this.count = count;
+            this.min = min;
+            this.max = max;
+            this.sum = sum;
+            double shiftedSum = sum - count * (double) shift;
+            this.m2 = Math.max(0, shiftedSquares - shiftedSum * shiftedSum / count);
+        }
+
+        // pairwise update (Chan et al.), other is a disjoint range
+        Moments merge(Moments other) {
+            double delta = (double) other.sum / other.count - (double) sum / count;
+            long total = count + other.count;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+            count = total;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            return this;
+        }
+    }
+
+    // moments of arr[from, to), to > from
+    private static Moments reduce(int[] arr, int from, int to) {
+        Moments total = reduceChunk(arr, from, Math.min(to, from + REDUCE_CHUNK));
+        for(int start=from+REDUCE_CHUNK; start<to; start+=REDUCE_CHUNK) {
+            total.merge(reduceChunk(arr, start, Math.min(to, start + REDUCE_CHUNK)));
+        }
+        return total;
+    }
+
+    private static Moments reduceChunk(int[] arr, int from, int to) {
+        Moments m = new Moments();
+        if(SimdSort.ENABLED) {
+            VectorArrayKernels.reduce(arr, from, to, m);
+            return m;
+        }
+        int shift = arr[from];
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        long sum = 0;
+        double squares = 0;
+        for(int i=from; i<to; i++) {
+            int v = arr[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+            sum += v;
+            double d = (double) v - shift;
+            squares += d * d;
+        }
+        m.set(to - from, min, max, sum, shift, squares);
+        return m;
+    }
+
+    // bucket = (v - low) / width, with a multiply by the reciprocal and a one-step fix instead of a division
+    private static void countBuckets(int[] arr, int from, int to, int low, int high, long width, long[] counts) {
+        double inverse = 1.0 / width;
+        for(int i=from; i<to; i++) {
+            int v = arr[i];
+            if(v < low || v > high) {
+                continue;
+            }
+            long x = (long) v - low;
+            long b = (long) (x * inverse);
+            if(b * width > x) {
+                b--;
+            } else if((b + 1) * width <= x) {
+                b++;
+            }
+            counts[(int) b]++;
+        }
+    }
+
+    // halves the range until it is below the threshold, then merges the moments
+    private static final class StatsTask extends RecursiveTask<Moments> {
+        private static final long serialVersionUID = 1L;
+        private final int[] arr;
+        private final int from, to;
+
+        StatsTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Moments compute() {
+            if(to - from <= PARALLEL_THRESHOLD) {
+                return reduce(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            StatsTask left = new StatsTask(arr, from, mid);
+            left.fork();
+            Moments right = new StatsTask(arr, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    // halves the range until it is below the threshold, then adds the counts
+    private static final class HistogramTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        private final int[] arr;
+        private final int from, to, low, high, buckets;
+        private final long width;
+
+        HistogramTask(int[] arr, int from, int to, int low, int high, long width, int buckets) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+            this.width = width;
+            this.buckets = buckets;
+        }
+
+        @Override
+        protected long[] compute() {
+            if(to - from <= PARALLEL_THRESHOLD) {
+                long[] counts = new long[buckets];
+                countBuckets(arr, from, to, low, high, width, counts);
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(arr, from, mid, low, high, width, buckets);
+            left.fork();
+            long[] counts = new HistogramTask(arr, mid, to, low, high, width, buckets).compute();
+            long[] leftCounts = left.join();
+            for(int b=0; b<buckets; b++) {
+                counts[b] += leftCounts[b];
+            }
+            return counts;
+        }
+    }
+
     public static void main(String[] args) {
         // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
         Array arr = new Array(5);
@@ -357,7 +612,18 @@ public class Array {
         System.out.println("Deleted " + deleted + " occurrence(s): ");
         arr.traverse();
 
-        System.out.println("\nSearch for 15: " + arr.search(15));
+        System.out.println("\nAdd All {7, 8, 9, 8}, then Remove If even: ");
+        arr.addAll(new int[]{7, 8, 9, 8});
+        int removedEven = arr.removeIf(value -> value % 2 == 0);
+        System.out.println("Removed " + removedEven + " element(s): ");
+        arr.traverse();
+
+        System.out.println("\nRetain All {15, 17, 9}, then Replace All (x10): ");
+        arr.retainAll(new int[]{15, 17, 9});
+        arr.replaceAll(value -> value * 10);
+        arr.traverse();
+
+        System.out.println("\nSearch for 150: " + arr.search(150));
         System.out.println("\nSearch for 99: " + arr.search(99));
 
         System.out.println("\nSort the Array (Built-in): ");
@@ -395,6 +661,10 @@ public class Array {
             System.out.print(val + " ");
         }
 
+        System.out.println("\nStats: " + arr.stats());
+        System.out.println("Histogram [0, 199] in 4 buckets: " + Arrays.toString(arr.histogram(0, 199, 4)));
+
+        // timings on dashboard-sized data: see ArrayStatsBench
     }
 
 }
@@ -0,0 +1,61 @@
+package com.algovault.ds.arrays;
+
+import com.algovault.algo.sorting.SimdSort;
+
+import java.util.concurrent.ForkJoinPool;
+
+/************************************************************
+ * 🔰 CLASS: ArrayStatsBench
+ * ----------------------------------------------------------
+ * 📌 Description : Timing run for Array.stats and Array.histogram on
+ *                  dashboard-sized data
+ * 🛠️  Purpose     : Compares the one-pass stats() against separate
+ *                  min/max/sum loops and reports the bytes read per second.
+ *                  Kept out of Array.main so the demo stays small.
+ *                  Args: [elements], default 100M (400 MB, plus a 400 MB
+ *                  copy for the baseline loops - run with -Xmx2g).
+ *                  Add --add-modules jdk.incubator.vector for the SIMD
+ *                  kernels.
+ * 🧠 Complexity   : O(n) per round
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class ArrayStatsBench {
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        Array big = new Array(n);
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            big.add(random.nextInt(1_000_000));
+        }
+        int[] raw = big.copy();
+        System.out.println("SIMD: " + SimdSort.ENABLED + ", threads: " + ForkJoinPool.commonPool().getParallelism());
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            Array.Stats stats = big.stats();
+            long onePass = System.nanoTime() - start;
+            start = System.nanoTime();
+            int min = big.min(), max = big.max();
+            long sum = 0;
+            for (int v : raw) {
+                sum += v;
+            }
+            long loops = System.nanoTime() - start;
+            start = System.nanoTime();
+            long[] histogram = big.histogram(0, 999_999, 100);
+            long bucketed = System.nanoTime() - start;
+            System.out.printf("stats %.1f ms (%.1f GB/s), min+max+sum loops %.1f ms, histogram %.1f ms | mean %.1f, sd %.1f, %s%n",
+                    onePass / 1e6, n * 4.0 / onePass, loops / 1e6, bucketed / 1e6, stats.mean(), stats.standardDeviation(),
+                    min == stats.min() && max == stats.max() && sum == stats.sum() && histogram[0] > 0 ? "match" : "MISMATCH");
+        }
+    }
+}
+/************************************************************
+ * 🔚 End of ArrayStatsBench.java
+ * 📣 Built for mastering SIMD reductions stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
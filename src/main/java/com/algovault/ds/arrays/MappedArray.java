@@ -0,0 +1,319 @@
+package com.algovault.ds.arrays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: MappedArray
+ * ----------------------------------------------------------
+ * 📌 Description : Dynamic int array persisted in a memory-mapped file
+ * 📦 Features    : Create, Open, Add, Insert, InsertMultiple, Delete,
+ *                  Get, Set, Search, Force, Close
+ * 🛠️  Purpose     : The file-backed counterpart of Array. A restarted
+ *                  process opens the file and serves the data at once: open
+ *                  reads a 64-byte header and maps the file, pages are only
+ *                  loaded by the OS when touched.
+ *                  File layout (little endian):
+ *                  [magic 8][version 4][unused 4][size 8][capacity 8]
+ *                  [padding up to 64] [capacity ints]
+ *                  One MappedByteBuffer is limited to 2 GB, so the data is
+ *                  mapped in chunks of 2^28 ints; index i lives in chunk
+ *                  i >>> 28. Growing doubles the capacity like Array.add,
+ *                  remaps the last chunk and maps the new ones - existing
+ *                  data is never copied. The file does not shrink.
+ *                  size is kept in the header on every change; force()
+ *                  flushes header and data to disk as a checkpoint.
+ * 🧠 Complexity  : O(1) open and amortized append, O(n) insert/delete/search
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class MappedArray implements AutoCloseable {
+    private static final long MAGIC = 0x3159415252415641L; // "AVARRAY1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SIZE_OFFSET = 16;
+    private static final int CAPACITY_OFFSET = 24;
+    private static final int CHUNK_SHIFT = 28;
+    private static final long CHUNK_INTS = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_INTS - 1;
+    // chunk count stays an int, file offsets stay a long
+    private static final long MAX_CAPACITY = (long) Integer.MAX_VALUE << CHUNK_SHIFT;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] maps;
+    private IntBuffer[] chunks;
+    private long size;
+    private long capacity;
+
+    private MappedArray(FileChannel channel, long size, long capacity) throws IOException {
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        this.size = size;
+        this.maps = new MappedByteBuffer[0];
+        this.chunks = new IntBuffer[0];
+        mapChunks(capacity);
+    }
+
+    // new file (an existing one is truncated) with room for capacity ints
+    public static MappedArray create(Path file, long capacity) throws IOException {
+        if(capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            MappedArray array = new MappedArray(channel, 0, capacity);
+            array.header.putLong(0, MAGIC);
+            array.header.putInt(8, VERSION);
+            array.header.putLong(SIZE_OFFSET, 0);
+            return array;
+        } catch (IOException | RuntimeException e) {
+            // mapping failed (disk full, capacity too large), don't leak the channel
+            channel.close();
+            throw e;
+        }
+    }
+
+    // reopen a file written by create, O(1) in the number of elements
+    public static MappedArray open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if(channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a MappedArray file: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            long size = header.getLong(SIZE_OFFSET);
+            long capacity = header.getLong(CAPACITY_OFFSET);
+            if(header.getLong(0) != MAGIC || header.getInt(8) != VERSION || size < 0 || size > capacity || capacity > MAX_CAPACITY) {
+                throw new IOException("Not a MappedArray file: " + file);
+            }
+            return new MappedArray(channel, size, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // map [old capacity, newCapacity); the old last chunk is remapped at its new length
+    private void mapChunks(long newCapacity) throws IOException {
+        int count = (int) ((newCapacity + CHUNK_INTS - 1) >>> CHUNK_SHIFT);
+        int first = Math.max(0, maps.length - 1);
+        maps = Arrays.copyOf(maps, count);
+        chunks = Arrays.copyOf(chunks, count);
+        for(int c=first; c<count; c++) {
+            long ints = Math.min(CHUNK_INTS, newCapacity - (c * CHUNK_INTS));
+            long offset = HEADER_BYTES + c * CHUNK_INTS * Integer.BYTES;
+            maps[c] = channel.map(FileChannel.MapMode.READ_WRITE, offset, ints * Integer.BYTES);
+            maps[c].order(ByteOrder.LITTLE_ENDIAN);
+            chunks[c] = maps[c].asIntBuffer();
+        }
+        capacity = newCapacity;
+        header.putLong(CAPACITY_OFFSET, capacity);
+    }
+
+    private void grow(long needed) {
+        if(needed > MAX_CAPACITY) {
+            throw new IllegalStateException("MappedArray is full.");
+        }
+        try {
+            mapChunks(Math.min(MAX_CAPACITY, Math.max(capacity * 2, needed)));
+        } catch(IOException e) {
+            throw new UncheckedIOException("Could not grow the mapped file.", e);
+        }
+    }
+
+    private void setSize(long newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    private int read(long i) {
+        return chunks[(int) (i >>> CHUNK_SHIFT)].get((int) (i & CHUNK_MASK));
+    }
+
+    private void write(long i, int data) {
+        chunks[(int) (i >>> CHUNK_SHIFT)].put((int) (i & CHUNK_MASK), data);
+    }
+
+    // copy count ints from index from to index to, chunk by chunk, overlap safe
+    private void move(long from, long to, long count) {
+        if(count <= 0 || from == to) {
+            return;
+        }
+        if(to < from) {
+            for(long done=0; done<count; ) {
+                long s = from + done, d = to + done;
+                int len = (int) Math.min(count - done, Math.min(CHUNK_INTS - (s & CHUNK_MASK), CHUNK_INTS - (d & CHUNK_MASK)));
+                chunks[(int) (d >>> CHUNK_SHIFT)].put((int) (d & CHUNK_MASK), chunks[(int) (s >>> CHUNK_SHIFT)], (int) (s & CHUNK_MASK), len);
+                done += len;
+            }
+        } else {
+            for(long left=count; left>0; ) {
+                long sEnd = from + left, dEnd = to + left;
+                int len = (int) Math.min(left, Math.min(((sEnd - 1) & CHUNK_MASK) + 1, ((dEnd - 1) & CHUNK_MASK) + 1));
+                long s = sEnd - len, d = dEnd - len;
+                chunks[(int) (d >>> CHUNK_SHIFT)].put((int) (d & CHUNK_MASK), chunks[(int) (s >>> CHUNK_SHIFT)], (int) (s & CHUNK_MASK), len);
+                left -= len;
+            }
+        }
+    }
+
+    // Add element at the end (like append)
+    public void add(int data) {
+        if(size == capacity) {
+            grow(size + 1);
+        }
+        write(size, data);
+        setSize(size + 1);
+    }
+
+    // Insert at position
+    public void insert(long pos, int data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        if(size == capacity) {
+            grow(size + 1);
+        }
+        move(pos, pos + 1, size - pos);
+        write(pos, data);
+        setSize(size + 1);
+    }
+
+    // Insert multiple element at position
+    public void insertMultiple(long pos, int[] data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        if(size + data.length > capacity) {
+            grow(size + data.length);
+        }
+        move(pos, pos + data.length, size - pos);
+        for(int i=0; i<data.length; i++) {
+            write(pos + i, data[i]);
+        }
+        setSize(size + data.length);
+    }
+
+    // delete from end
+    public void deleteEnd() {
+        if(size==0) {
+            throw new IllegalStateException("Array is empty.");
+        }
+        setSize(size - 1);
+    }
+
+    // delete from any position
+    public void delete(long pos) {
+        if(pos<0 || pos>=size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        move(pos + 1, pos, size - pos - 1);
+        setSize(size - 1);
+    }
+
+    // search for element - linear search, index or -1
+    public long search(int data) {
+        for(long i=0; i<size; i++) {
+            if(read(i) == data) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // get element at position
+    public int get(long pos) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        return read(pos);
+    }
+
+    // set/update element at position
+    public void set(long pos, int data) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        write(pos, data);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    // checkpoint: everything written so far is on disk when this returns
+    public void force() {
+        for(MappedByteBuffer map : maps) {
+            map.force();
+        }
+        header.force();
+    }
+
+    // checkpoint and release the file; the mappings go away with the buffers
+    @Override
+    public void close() throws IOException {
+        if(channel.isOpen()) {
+            force();
+            channel.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        Path file = java.nio.file.Files.createTempFile("algovault", ".arr");
+        try (MappedArray arr = MappedArray.create(file, 4)) {
+            for (int i = 1; i <= 6; i++) {
+                arr.add(i * 10);
+            }
+            arr.insert(2, 15);
+            arr.delete(0);
+            System.out.println("Written " + arr.size() + " ints, capacity " + arr.capacity());
+        }
+
+        // a "restart": the data is back without reading it
+        try (MappedArray arr = MappedArray.open(file)) {
+            System.out.print("Reopened: ");
+            for (long i = 0; i < arr.size(); i++) {
+                System.out.print(arr.get(i) + " ");
+            }
+            System.out.println();
+        }
+
+        // 50M ints, then time the reopen
+        try (MappedArray big = MappedArray.create(file, 1 << 20)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 50_000_000; i++) {
+                big.add(i);
+            }
+            System.out.printf("Appended %d ints in %d ms%n", big.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        long start = System.nanoTime();
+        try (MappedArray big = MappedArray.open(file)) {
+            System.out.printf("Reopened %d ints in %.2f ms, last = %d%n", big.size(),
+                    (System.nanoTime() - start) / 1e6, big.get(big.size() - 1));
+        }
+        java.nio.file.Files.delete(file);
+    }
+}
+/************************************************************
+ * 🔚 End of MappedArray.java
+ * 📣 Built for mastering memory-mapped storage stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -0,0 +1,275 @@
+package com.algovault.ds.arrays;
+
+import java.util.Arrays;
+
+/************************************************************
+ * 🔰 CLASS: SegmentedArray
+ * ----------------------------------------------------------
+ * 📌 Description : Dynamic int array made of blocks that never move
+ *                  (Brodnik et al., resizable arrays in optimal time and space)
+ * 📦 Features    : Add, Insert, InsertMultiple, Delete, DeleteEnd, Get, Set,
+ *                  Search, Traverse, ToArray
+ * 🛠️  Purpose     : Array doubles with one big Arrays.copyOf, which stalls
+ *                  the appending thread for seconds at 500M elements. Here
+ *                  growing allocates one more block and shrinking drops the
+ *                  last one; stored elements are never copied.
+ *                  Layout:
+ *                  superblock k holds 2^floor(k/2) blocks of 2^ceil(k/2)
+ *                  ints, so block sizes grow like sqrt(n). Index i is found
+ *                  with bit operations on r = i + 1: k is the position of
+ *                  the highest bit of r, the next floor(k/2) bits pick the
+ *                  block inside superblock k and the low ceil(k/2) bits are
+ *                  the offset in the block.
+ *                  Slack:
+ *                  only the last block is partly empty, plus at most one
+ *                  spare empty block kept to avoid allocate/free ping-pong,
+ *                  and the directory of block references - all O(sqrt n).
+ *                  slack() counts the unused int slots, directoryLength()
+ *                  the reference slots.
+ * 🧠 Complexity  : O(1) get/set, O(1) worst case append (no copying),
+ *                  O(n) insert/delete/search, O(sqrt n) extra space
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class SegmentedArray {
+    private int[][] blocks = new int[4][];
+    // blocks[0 .. allocated) are non-null
+    private int allocated;
+    private int size;
+
+    // superblock of index i
+    private static int superblock(int i) {
+        return 31 - Integer.numberOfLeadingZeros(i + 1);
+    }
+
+    // blocks in superblocks 0 .. k-1
+    private static int blocksBefore(int k) {
+        int half = k >>> 1;
+        return (k & 1) == 0 ? 2 * ((1 << half) - 1) : 3 * (1 << half) - 2;
+    }
+
+    private static int blockOf(int i) {
+        int r = i + 1;
+        int k = 31 - Integer.numberOfLeadingZeros(r);
+        int half = k >>> 1;
+        return blocksBefore(k) + ((r >>> (k - half)) & ((1 << half) - 1));
+    }
+
+    private static int offsetOf(int i) {
+        int r = i + 1;
+        int k = 31 - Integer.numberOfLeadingZeros(r);
+        return r & ((1 << (k - (k >>> 1))) - 1);
+    }
+
+    // Add element at the end (like append)
+    public void add(int data) {
+        if(size == Integer.MAX_VALUE - 1) {
+            throw new IllegalStateException("Array is full.");
+        }
+        int block = blockOf(size);
+        if(block == allocated) {
+            if(allocated == blocks.length) {
+                blocks = Arrays.copyOf(blocks, blocks.length * 2);
+            }
+            int k = superblock(size);
+            blocks[allocated++] = new int[1 << (k - (k >>> 1))];
+        }
+        blocks[block][offsetOf(size)] = data;
+        size++;
+    }
+
+    // Insert at beginning
+    public void insertBeginning(int data) {
+        insert(0, data);
+    }
+
+    // Insert at position
+    public void insert(int pos, int data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        add(data);
+        shiftRight(pos, size - 1, 1);
+        set(pos, data);
+    }
+
+    // move [from, to) up by distance slots (already appended), one arraycopy per block piece, last piece first
+    private void shiftRight(int from, int to, int distance) {
+        int end = to;
+        while(end > from) {
+            int src = end - 1, dst = src + distance;
+            int srcOff = offsetOf(src), dstOff = offsetOf(dst);
+            int len = Math.min(end - from, Math.min(srcOff, dstOff) + 1);
+            System.arraycopy(blocks[blockOf(src)], srcOff - len + 1, blocks[blockOf(dst)], dstOff - len + 1, len);
+            end -= len;
+        }
+    }
+
+    // Insert multiple element at position
+    public void insertMultiple(int pos, int[] data) {
+        if(pos<0 || pos>size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        int oldSize = size;
+        for(int i=0; i<data.length; i++) {
+            add(0);
+        }
+        shiftRight(pos, oldSize, data.length);
+        // copy data in, one arraycopy per block
+        for(int done=0; done<data.length; ) {
+            int i = pos + done;
+            int[] block = blocks[blockOf(i)];
+            int off = offsetOf(i);
+            int len = Math.min(data.length - done, block.length - off);
+            System.arraycopy(data, done, block, off, len);
+            done += len;
+        }
+    }
+
+    // Helper: free empty blocks, keeping one spare after the last used block
+    private void shrinkIfNeeded() {
+        int used = size == 0 ? 0 : blockOf(size - 1) + 1;
+        while(allocated > used + 1) {
+            blocks[--allocated] = null;
+        }
+        if(blocks.length > 4 && allocated < blocks.length / 4) {
+            blocks = Arrays.copyOf(blocks, blocks.length / 2);
+        }
+    }
+
+    // delete from end
+    public void deleteEnd() {
+        if(size==0) {
+            throw new IllegalStateException("Array is empty.");
+        }
+        size--;
+        shrinkIfNeeded();
+    }
+
+    // delete from beginning
+    public void deleteBeginning() {
+        delete(0);
+    }
+
+    // delete from any position
+    public void delete(int pos) {
+        if(pos<0 || pos>=size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        // arr[j] = arr[j+1] for j in [pos, size-1), one arraycopy per block
+        int i = pos;
+        while(i < size - 1) {
+            int[] block = blocks[blockOf(i)];
+            int off = offsetOf(i);
+            int blockEnd = i - off + block.length;
+            int high = Math.min(size - 1, blockEnd - 1);
+            System.arraycopy(block, off + 1, block, off, high - i);
+            if(high == blockEnd - 1 && high < size - 1) {
+                // last slot of this block takes the first element of the next block
+                block[block.length - 1] = get(blockEnd);
+                i = blockEnd;
+            } else {
+                i = high;
+            }
+        }
+        size--;
+        shrinkIfNeeded();
+    }
+
+    // search for element - linear search, block by block
+    public boolean search(int data) {
+        int remaining = size;
+        for(int b=0; b<allocated && remaining>0; b++) {
+            int[] block = blocks[b];
+            int n = Math.min(block.length, remaining);
+            for(int j=0; j<n; j++) {
+                if(block[j] == data) {
+                    return true;
+                }
+            }
+            remaining -= n;
+        }
+        return false;
+    }
+
+    // get element at position
+    public int get(int pos) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        return blocks[blockOf(pos)][offsetOf(pos)];
+    }
+
+    // set/update element at position
+    public void set(int pos, int data) {
+        if(pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("Invalid position.");
+        }
+        blocks[blockOf(pos)][offsetOf(pos)] = data;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // allocated int slots minus used int slots
+    public long slack() {
+        long slots = 0;
+        for(int b=0; b<allocated; b++) {
+            slots += blocks[b].length;
+        }
+        return slots - size;
+    }
+
+    // block references the directory has room for, the other O(sqrt n) overhead
+    public int directoryLength() {
+        return blocks.length;
+    }
+
+    // print current array elements
+    public void traverse() {
+        System.out.print("Array elements: ");
+        for(int i=0; i<size; i++) {
+            System.out.print(get(i) + " ");
+        }
+    }
+
+    // copy into a plain int[], block by block
+    public int[] toArray() {
+        int[] out = new int[size];
+        int copied = 0;
+        for(int b=0; b<allocated && copied<size; b++) {
+            int n = Math.min(blocks[b].length, size - copied);
+            System.arraycopy(blocks[b], 0, out, copied, n);
+            copied += n;
+        }
+        return out;
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+        SegmentedArray arr = new SegmentedArray();
+        for (int i = 1; i <= 6; i++) {
+            arr.add(i * 10);
+        }
+        arr.traverse();
+
+        System.out.println("\nInsert at Position (2, 15): ");
+        arr.insert(2, 15);
+        arr.traverse();
+
+        System.out.println("\nDelete from Position 0: ");
+        arr.delete(0);
+        arr.traverse();
+
+        System.out.println("\nSlack: " + arr.slack() + " ints, directory: "
+                + arr.directoryLength() + " block references");
+        // append latency at 100M elements: see SegmentedArrayBench
+    }
+}
+/************************************************************
+ * 🔚 End of SegmentedArray.java
+ * 📣 Built for mastering resizable arrays stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
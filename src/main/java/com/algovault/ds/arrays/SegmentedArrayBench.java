@@ -0,0 +1,56 @@
+package com.algovault.ds.arrays;
+
+/************************************************************
+ * 🔰 CLASS: SegmentedArrayBench
+ * ----------------------------------------------------------
+ * 📌 Description : Append latency run for Array against SegmentedArray
+ * 🛠️  Purpose     : Array copies everything on every doubling,
+ *                  SegmentedArray never does. Times every single append and
+ *                  counts the ones slower than 1 ms, plus the worst one.
+ *                  Kept out of SegmentedArray.main so the demo stays small.
+ *                  Args: [elements], default 100M (Array peaks at 1.5x its
+ *                  400 MB during a doubling - run with -Xmx2g).
+ * 🧠 Complexity   : O(n) per structure
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+public class SegmentedArrayBench {
+
+    // stats[0] = appends slower than 1 ms, stats[1] = worst append
+    private static void record(long[] stats, long nanos) {
+        if(nanos > 1_000_000) {
+            stats[0]++;
+        }
+        stats[1] = Math.max(stats[1], nanos);
+    }
+
+    public static void main(String[] args) {
+        // 🔸 CODED BY MASUM ✨ | NEVER STOP LEARNING 🚀
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        long[] plainStats = new long[2], segmentedStats = new long[2];
+        Array plain = new Array(16);
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            plain.add(i);
+            record(plainStats, System.nanoTime() - start);
+        }
+        plain = null;
+        SegmentedArray segmented = new SegmentedArray();
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            segmented.add(i);
+            record(segmentedStats, System.nanoTime() - start);
+        }
+        System.out.printf("Appends of %d ints slower than 1 ms: Array %d (worst %.1f ms), SegmentedArray %d (worst %.1f ms)%n",
+                n, plainStats[0], plainStats[1] / 1e6, segmentedStats[0], segmentedStats[1] / 1e6);
+        System.out.println("SegmentedArray slack: " + segmented.slack() + " ints, directory: "
+                + segmented.directoryLength() + " block references");
+    }
+}
+/************************************************************
+ * 🔚 End of SegmentedArrayBench.java
+ * 📣 Built for mastering resizable arrays stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
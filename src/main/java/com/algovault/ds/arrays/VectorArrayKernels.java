@@ -0,0 +1,100 @@
+package com.algovault.ds.arrays;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/************************************************************
+ * 🔰 CLASS: VectorArrayKernels
+ * ----------------------------------------------------------
+ * 📌 Description : SIMD reduction kernels for Array on 8-lane int vectors
+ *                  (jdk.incubator.vector, 256-bit, AVX2 class)
+ * 🛠️  Purpose     : Only reached when SimdSort.ENABLED is true, so the
+ *                  incubator module is known to be present before this
+ *                  class is loaded.
+ *                  reduce - min, max, sum and squared deviations of a range
+ *                  in one pass. min/max are lanewise. The exact long sum is
+ *                  kept in int lanes by splitting every value into its high
+ *                  16 bits (signed) and low 16 bits: after 2^12 vectors even
+ *                  the sum of all 8 lanes still fits in an int (the lane
+ *                  reduction itself is done in int), then it is added to
+ *                  the long. Squares are taken in double lanes after
+ *                  subtracting a shift, which keeps the variance free of
+ *                  cancellation.
+ *                  indexOf - first lane equal to the key, 8 compares at once.
+ * 🧠 Complexity   : O(n / 8) vector steps
+ *
+ * 🧑‍💻 Crafted With Logic & Love by Masum | 17-Oct-2026
+ ************************************************************/
+
+class VectorArrayKernels {
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+    static final VectorSpecies<Double> HALF = DoubleVector.SPECIES_256;
+    static final int LANES = 8;
+    // vectors summed per block before the 8 int lanes together could overflow
+    private static final int SUM_BLOCK = 1 << 12;
+
+    // fills m with the moments of arr[from, to), to > from
+    static void reduce(int[] arr, int from, int to, Array.Moments m) {
+        int shift = arr[from];
+        double shiftD = shift;
+        IntVector min = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector max = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        DoubleVector squaresLow = DoubleVector.zero(HALF), squaresHigh = DoubleVector.zero(HALF);
+        long sum = 0;
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        while(i < bound) {
+            int blockEnd = (int) Math.min(bound, i + (long) SUM_BLOCK * LANES);
+            IntVector high = IntVector.zero(SPECIES), low = IntVector.zero(SPECIES);
+            for(; i<blockEnd; i+=LANES) {
+                IntVector v = IntVector.fromArray(SPECIES, arr, i);
+                min = min.min(v);
+                max = max.max(v);
+                high = high.add(v.lanewise(VectorOperators.ASHR, 16));
+                low = low.add(v.and(0xFFFF));
+                DoubleVector d0 = ((DoubleVector) v.convertShape(VectorOperators.I2D, HALF, 0)).sub(shiftD);
+                DoubleVector d1 = ((DoubleVector) v.convertShape(VectorOperators.I2D, HALF, 1)).sub(shiftD);
+                squaresLow = d0.fma(d0, squaresLow);
+                squaresHigh = d1.fma(d1, squaresHigh);
+            }
+            sum += (high.reduceLanesToLong(VectorOperators.ADD) << 16) + low.reduceLanesToLong(VectorOperators.ADD);
+        }
+        int lo = min.reduceLanes(VectorOperators.MIN), hi = max.reduceLanes(VectorOperators.MAX);
+        double squares = squaresLow.add(squaresHigh).reduceLanes(VectorOperators.ADD);
+        // tail
+        for(; i<to; i++) {
+            int v = arr[i];
+            lo = Math.min(lo, v);
+            hi = Math.max(hi, v);
+            sum += v;
+            double d = v - shiftD;
+            squares += d * d;
+        }
+        m.set(to - from, lo, hi, sum, shift, squares);
+    }
+
+    // first index in [from, to) holding key, or -1
+    static int indexOf(int[] arr, int from, int to, int key) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for(; i<bound; i+=LANES) {
+            int lane = IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, key).firstTrue();
+            if(lane < LANES) {
+                return i + lane;
+            }
+        }
+        for(; i<to; i++) {
+            if(arr[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
+/************************************************************
+ * 🔚 End of VectorArrayKernels.java
+ * 📣 Built for mastering SIMD reductions stepwise
+ * ✍️ Author: Masum | Keep coding, keep learning
+ ************************************************************/
@@ -1,5 +1,7 @@
 package com.algovault.ds.tree;
 
+import com.algovault.algo.sorting.StringSort;
+
 import java.io.*;
 import java.net.*;
 import java.nio.file.Files;
@@ -1551,7 +1553,7 @@ public class Terminal {
                     }
                 }
 
-                Collections.sort(lines);
+                new StringSort().sort(lines);
 
                 for (String sortedLine : lines) {
                     terminal.println(sortedLine);